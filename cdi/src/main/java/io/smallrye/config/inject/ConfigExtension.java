@@ -31,6 +31,7 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
@@ -66,6 +67,8 @@ import io.smallrye.config.SmallRyeConfig;
  */
 public class ConfigExtension implements Extension {
     private final Set<InjectionPoint> configPropertyInjectionPoints = new HashSet<>();
+    /** Resolution plans of ConfigProperty injection points, computed once during validation */
+    private final Map<InjectionPoint, ConfigInjectionPlan> configPropertyPlans = new ConcurrentHashMap<>();
     /** ConfigProperties for SmallRye Config */
     private final Set<ConfigClass> configProperties = new HashSet<>();
     /** ConfigProperties for CDI */
@@ -199,6 +202,9 @@ public class ConfigExtension implements Extension {
                 continue;
             }
 
+            ConfigInjectionPlan plan = ConfigInjectionPlan.of(injectionPoint);
+            configPropertyPlans.put(injectionPoint, plan);
+
             // We don't validate the Optional / Provider / Supplier / ConfigValue for defaultValue.
             if (type instanceof Class && org.eclipse.microprofile.config.ConfigValue.class.isAssignableFrom((Class<?>) type)
                     || type instanceof Class && OptionalInt.class.isAssignableFrom((Class<?>) type)
@@ -228,8 +234,8 @@ public class ConfigExtension implements Extension {
             }
 
             try {
-                // Check if the value can be injected. This may cause duplicated config reads (to validate and to inject).
-                ConfigProducerUtil.getValue(injectionPoint, config);
+                // Check if the value can be injected. If values are cached, the validated value is the injected value.
+                plan.getValue(config);
             } catch (Exception e) {
                 adv.addDeploymentProblem(InjectionMessages.msg.retrieveConfigFailure(name, formatInjectionPoint(injectionPoint),
                         e.getLocalizedMessage(), e));
@@ -248,6 +254,12 @@ public class ConfigExtension implements Extension {
         return configPropertyInjectionPoints;
     }
 
+    ConfigInjectionPlan getConfigPropertyPlan(InjectionPoint injectionPoint) {
+        ConfigInjectionPlan plan = configPropertyPlans.get(injectionPoint);
+        // Programmatic lookups are not known by the extension, so the plan is not kept
+        return plan != null ? plan : ConfigInjectionPlan.of(injectionPoint);
+    }
+
     private static boolean isIndexed(Type type, String name, SmallRyeConfig config) {
         return type instanceof ParameterizedType &&
                 (List.class.isAssignableFrom((Class<?>) ((ParameterizedType) type).getRawType()) ||
@@ -0,0 +1,164 @@
+package io.smallrye.config.inject;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.inject.Provider;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.SmallRyeConfig;
+
+/**
+ * The resolution plan of a {@link ConfigProperty} {@link InjectionPoint}.
+ * <p>
+ * The configuration name, the target {@link Type}, the default value and the {@link Converter} are computed once per
+ * injection point, instead of being derived from the {@link InjectionPoint} on each injection. The {@link Converter} is
+ * bound to the {@link SmallRyeConfig} instance that resolved it, and it is resolved again if the injection happens
+ * with a different {@link SmallRyeConfig} instance.
+ * <p>
+ * If {@link ConfigProducer#SMALLRYE_CONFIG_INJECT_CACHE_VALUES} is enabled, the produced value of immutable types is
+ * also kept in the plan, and further injections return the cached value without looking up the configuration. The
+ * values of {@link Supplier}, {@link Provider} and {@link jakarta.enterprise.inject.Instance} injection points are
+ * never cached, because these are used to get dynamic values.
+ */
+final class ConfigInjectionPlan {
+    private final String name;
+    private final Type type;
+    private final String defaultValue;
+    private final boolean multiValue;
+    private final boolean cacheable;
+
+    private volatile Resolved resolved;
+
+    private ConfigInjectionPlan(final String name, final Type injectionType, final Type type, final String defaultValue) {
+        this.name = name;
+        this.type = type;
+        this.defaultValue = defaultValue;
+        this.multiValue = name != null && (ConfigProducerUtil.hasCollection(type) || ConfigProducerUtil.hasMap(type));
+        this.cacheable = !multiValue && !isProvider(injectionType) && isImmutable(type);
+    }
+
+    static ConfigInjectionPlan of(final InjectionPoint injectionPoint) {
+        return new ConfigInjectionPlan(
+                ConfigProducerUtil.getName(injectionPoint),
+                injectionPoint.getType(),
+                ConfigProducerUtil.getType(injectionPoint),
+                ConfigProducerUtil.getDefaultValue(injectionPoint));
+    }
+
+    String getName() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T getValue(final SmallRyeConfig config) {
+        if (name == null) {
+            return null;
+        }
+
+        if (multiValue) {
+            return ConfigProducerUtil.getValue(name, type, defaultValue, config);
+        }
+
+        Resolved resolved = resolve(config);
+        if (cacheable && resolved.cacheValues) {
+            Object value = resolved.value;
+            if (value == null) {
+                value = convert(config, resolved.converter);
+                resolved.value = value;
+            }
+            return (T) value;
+        }
+        return (T) convert(config, resolved.converter);
+    }
+
+    ConfigValue getConfigValue(final SmallRyeConfig config) {
+        if (name == null) {
+            return null;
+        }
+
+        Resolved resolved = resolve(config);
+        if (resolved.cacheValues) {
+            ConfigValue configValue = resolved.configValue;
+            if (configValue == null) {
+                configValue = lookupConfigValue(config);
+                resolved.configValue = configValue;
+            }
+            return configValue;
+        }
+        return lookupConfigValue(config);
+    }
+
+    private Object convert(final SmallRyeConfig config, final Converter<?> converter) {
+        ConfigValue configValue = ConfigProducerUtil.getConfigValue(name, config);
+        if (configValue.getValue() == null && defaultValue != null) {
+            configValue = configValue.withValue(defaultValue);
+        }
+        return config.convertValue(configValue, converter);
+    }
+
+    private ConfigValue lookupConfigValue(final SmallRyeConfig config) {
+        ConfigValue configValue = config.getConfigValue(name);
+        if (configValue.getRawValue() == null) {
+            configValue = configValue.withValue(defaultValue);
+        }
+        return configValue;
+    }
+
+    private Resolved resolve(final SmallRyeConfig config) {
+        Resolved resolved = this.resolved;
+        if (resolved == null || resolved.config != config) {
+            resolved = new Resolved(config, multiValue || type == ConfigValue.class
+                    || type == org.eclipse.microprofile.config.ConfigValue.class ? null
+                            : ConfigProducerUtil.resolveConverter(type, config),
+                    config.getOptionalValue(ConfigProducer.SMALLRYE_CONFIG_INJECT_CACHE_VALUES, boolean.class)
+                            .orElse(false));
+            this.resolved = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * Only cache values that cannot be modified by the injected bean, and are not expected to be dynamic, like
+     * {@link Supplier}.
+     */
+    private static boolean isImmutable(final Type type) {
+        if (type instanceof Class) {
+            return ConfigProducer.isClassHandledByConfigProducer(type) && type != Supplier.class;
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            return parameterizedType.getRawType() == Optional.class
+                    && isImmutable(parameterizedType.getActualTypeArguments()[0]);
+        }
+        return false;
+    }
+
+    /**
+     * A {@link Provider}, or an {@link jakarta.enterprise.inject.Instance}, looks up the value on each call.
+     */
+    private static boolean isProvider(final Type type) {
+        Type rawType = type instanceof ParameterizedType ? ((ParameterizedType) type).getRawType() : type;
+        return rawType instanceof Class && Provider.class.isAssignableFrom((Class<?>) rawType);
+    }
+
+    private static final class Resolved {
+        private final SmallRyeConfig config;
+        private final Converter<?> converter;
+        private final boolean cacheValues;
+
+        private volatile Object value;
+        private volatile ConfigValue configValue;
+
+        Resolved(final SmallRyeConfig config, final Converter<?> converter, final boolean cacheValues) {
+            this.config = config;
+            this.converter = converter;
+            this.cacheValues = cacheValues;
+        }
+    }
+}
@@ -23,8 +23,10 @@ import java.util.function.Supplier;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.inject.Inject;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
@@ -39,6 +41,20 @@ import io.smallrye.config.SmallRyeConfig;
  */
 @ApplicationScoped
 public class ConfigProducer {
+    /**
+     * Configuration name to cache the values produced for each {@link ConfigProperty} injection point. When enabled,
+     * the value is looked up and converted once, and every further injection in the same injection point returns the
+     * same value, ignoring changes in the configuration. Only applies to immutable types, and excludes
+     * {@link Supplier} injection points, which always retrieve the current value. The configuration value must be a
+     * {@code boolean}, and it is disabled by default.
+     */
+    public static final String SMALLRYE_CONFIG_INJECT_CACHE_VALUES = "smallrye.config.inject.cache-values";
+
+    @Inject
+    Instance<ConfigExtension> configExtension;
+
+    private volatile ConfigExtension resolvedConfigExtension;
+
     @Produces
     protected SmallRyeConfig getConfig() {
         return Config.get(getContextClassLoader()).unwrap(SmallRyeConfig.class);
@@ -48,126 +64,139 @@ public class ConfigProducer {
     @Produces
     @ConfigProperty
     protected String produceStringConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected Long getLongValue(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected Integer getIntegerValue(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected Float produceFloatConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected Double produceDoubleConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected Boolean produceBooleanConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected Short produceShortConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected Byte produceByteConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected Character produceCharacterConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected <T> Optional<T> produceOptionalConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected <T> Supplier<T> produceSupplierConfigProperty(InjectionPoint ip) {
-        return () -> ConfigProducerUtil.getValue(ip, getConfig());
+        ConfigInjectionPlan plan = getPlan(ip);
+        return () -> plan.getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected <T> Set<T> producesSetConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected <T> List<T> producesListConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected <K, V> Map<K, V> producesMapConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected OptionalInt produceOptionalIntConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected OptionalLong produceOptionalLongConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected OptionalDouble produceOptionalDoubleConfigProperty(InjectionPoint ip) {
-        return ConfigProducerUtil.getValue(ip, getConfig());
+        return getPlan(ip).getValue(getConfig());
     }
 
     @Dependent
     @Produces
     @ConfigProperty
     protected ConfigValue produceConfigValue(InjectionPoint ip) {
-        return ConfigProducerUtil.getConfigValue(ip, getConfig());
+        return getPlan(ip).getConfigValue(getConfig());
+    }
+
+    private ConfigInjectionPlan getPlan(InjectionPoint ip) {
+        ConfigExtension extension = resolvedConfigExtension;
+        if (extension == null) {
+            if (configExtension == null || !configExtension.isResolvable()) {
+                return ConfigInjectionPlan.of(ip);
+            }
+            extension = configExtension.get();
+            resolvedConfigExtension = extension;
+        }
+        return extension.getConfigPropertyPlan(ip);
     }
 
     public static boolean isClassHandledByConfigProducer(Type requiredType) {
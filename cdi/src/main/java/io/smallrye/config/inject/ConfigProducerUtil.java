@@ -61,7 +61,7 @@ public final class ConfigProducerUtil {
         return getValue(getName(injectionPoint), getType(injectionPoint), getDefaultValue(injectionPoint), config);
     }
 
-    private static Type getType(InjectionPoint injectionPoint) {
+    static Type getType(InjectionPoint injectionPoint) {
         Type type = injectionPoint.getType();
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
@@ -176,7 +176,7 @@ public final class ConfigProducerUtil {
     }
 
     @SuppressWarnings("unchecked")
-    private static <T> Converter<T> resolveConverter(final Type type, final SmallRyeConfig config) {
+    static <T> Converter<T> resolveConverter(final Type type, final SmallRyeConfig config) {
         Class<T> rawType = rawTypeOf(type);
         if (type instanceof ParameterizedType) {
             ParameterizedType paramType = (ParameterizedType) type;
@@ -269,7 +269,7 @@ public final class ConfigProducerUtil {
         }
     }
 
-    private static boolean hasMap(final Type type) {
+    static boolean hasMap(final Type type) {
         Class<?> rawType = rawTypeOf(type);
         if (rawType == Map.class) {
             return true;
@@ -279,7 +279,7 @@ public final class ConfigProducerUtil {
         return false;
     }
 
-    private static <T> boolean hasCollection(final Type type) {
+    static <T> boolean hasCollection(final Type type) {
         Class<T> rawType = rawTypeOf(type);
         if (type instanceof ParameterizedType) {
             ParameterizedType paramType = (ParameterizedType) type;
@@ -295,7 +295,7 @@ public final class ConfigProducerUtil {
         return false;
     }
 
-    private static String getName(InjectionPoint injectionPoint) {
+    static String getName(InjectionPoint injectionPoint) {
         for (Annotation qualifier : injectionPoint.getQualifiers()) {
             if (qualifier.annotationType().equals(ConfigProperty.class)) {
                 ConfigProperty configProperty = ((ConfigProperty) qualifier);
@@ -305,7 +305,7 @@ public final class ConfigProducerUtil {
         return null;
     }
 
-    private static String getDefaultValue(InjectionPoint injectionPoint) {
+    static String getDefaultValue(InjectionPoint injectionPoint) {
         for (Annotation qualifier : injectionPoint.getQualifiers()) {
             if (qualifier.annotationType().equals(ConfigProperty.class)) {
                 String str = ((ConfigProperty) qualifier).defaultValue();
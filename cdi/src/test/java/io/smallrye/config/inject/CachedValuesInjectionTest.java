@@ -0,0 +1,159 @@
+package io.smallrye.config.inject;
+
+import static io.smallrye.config.inject.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+@ExtendWith(WeldJunit5Extension.class)
+class CachedValuesInjectionTest {
+    @WeldSetup
+    WeldInitiator weld = WeldInitiator.from(ConfigExtension.class, CounterBean.class)
+            .addBeans()
+            .activate(ApplicationScoped.class)
+            .inject(this)
+            .build();
+
+    @Inject
+    Instance<CounterBean> counterBeans;
+
+    @Test
+    void cachedValues() {
+        CounterBean first = counterBeans.get();
+        CounterBean second = counterBeans.get();
+
+        assertEquals(first.getCounter(), second.getCounter());
+        assertEquals(first.getOptionalCounter(), second.getOptionalCounter());
+        assertEquals("1234", first.getMyProp());
+        assertEquals("1234", second.getMyProp());
+        assertEquals(List.of("1", "2"), first.getList());
+
+        // Supplier are never cached
+        Supplier<Integer> supplierCounter = first.getSupplierCounter();
+        assertNotEquals(supplierCounter.get(), supplierCounter.get());
+        // Provider and Instance are never cached
+        Provider<Integer> providerCounter = first.getProviderCounter();
+        assertNotEquals(providerCounter.get(), providerCounter.get());
+        Instance<Integer> instanceCounter = first.getInstanceCounter();
+        assertNotEquals(instanceCounter.get(), instanceCounter.get());
+    }
+
+    @Dependent
+    static class CounterBean {
+        @Inject
+        @ConfigProperty(name = "my.prop")
+        String myProp;
+        @Inject
+        @ConfigProperty(name = "my.counter")
+        Integer counter;
+        @Inject
+        @ConfigProperty(name = "my.counter")
+        Optional<Integer> optionalCounter;
+        @Inject
+        @ConfigProperty(name = "my.counter")
+        Supplier<Integer> supplierCounter;
+        @Inject
+        @ConfigProperty(name = "my.counter")
+        Provider<Integer> providerCounter;
+        @Inject
+        @ConfigProperty(name = "my.counter")
+        Instance<Integer> instanceCounter;
+        @Inject
+        @ConfigProperty(name = "my.list")
+        List<String> list;
+
+        String getMyProp() {
+            return myProp;
+        }
+
+        Integer getCounter() {
+            return counter;
+        }
+
+        Optional<Integer> getOptionalCounter() {
+            return optionalCounter;
+        }
+
+        Supplier<Integer> getSupplierCounter() {
+            return supplierCounter;
+        }
+
+        Provider<Integer> getProviderCounter() {
+            return providerCounter;
+        }
+
+        Instance<Integer> getInstanceCounter() {
+            return instanceCounter;
+        }
+
+        List<String> getList() {
+            return list;
+        }
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234", "my.list", "1,2",
+                        ConfigProducer.SMALLRYE_CONFIG_INJECT_CACHE_VALUES, "true"))
+                .withSources(new ConfigSource() {
+                    int counter = 1;
+
+                    @Override
+                    public Map<String, String> getProperties() {
+                        return new HashMap<>();
+                    }
+
+                    @Override
+                    public Set<String> getPropertyNames() {
+                        return new HashSet<>();
+                    }
+
+                    @Override
+                    public String getValue(final String propertyName) {
+                        return "my.counter".equals(propertyName) ? "" + counter++ : null;
+                    }
+
+                    @Override
+                    public String getName() {
+                        return this.getClass().getName();
+                    }
+                })
+                .addDefaultInterceptors()
+                .build();
+        ConfigProviderResolver.instance().registerConfig(config, Thread.currentThread().getContextClassLoader());
+    }
+
+    @AfterAll
+    static void afterAll() {
+        ConfigProviderResolver.instance().releaseConfig(ConfigProvider.getConfig());
+    }
+}
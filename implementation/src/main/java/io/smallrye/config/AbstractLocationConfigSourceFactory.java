@@ -30,6 +30,6 @@ public abstract class AbstractLocationConfigSourceFactory extends AbstractLocati
         }
 
         return loadConfigSources(newArrayConverter(STRING_CONVERTER, String[].class).convert(value.getValue()),
-                value.getConfigSourceOrdinal());
+                value.getConfigSourceOrdinal(), SecuritySupport.getContextClassLoader(), HttpLocationLoader.of(context));
     }
 }
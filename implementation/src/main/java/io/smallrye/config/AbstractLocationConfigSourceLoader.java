@@ -1,7 +1,6 @@
 package io.smallrye.config;
 
 import static io.smallrye.common.classloader.ClassPathUtils.consumeAsPath;
-import static io.smallrye.common.classloader.ClassPathUtils.consumeAsPaths;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -17,9 +16,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
 import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
@@ -96,13 +96,32 @@ public abstract class AbstractLocationConfigSourceLoader {
     }
 
     protected List<ConfigSource> loadConfigSources(final String[] locations, final int ordinal, final ClassLoader classLoader) {
+        return loadConfigSources(locations, ordinal, classLoader, HttpLocationLoader.DEFAULT);
+    }
+
+    List<ConfigSource> loadConfigSources(final String[] locations, final int ordinal, final ClassLoader classLoader,
+            final HttpLocationLoader httpLoader) {
         if (locations == null || locations.length == 0) {
             return Collections.emptyList();
         }
 
-        final List<ConfigSource> configSources = new ArrayList<>();
+        // a subclass that loads http resources by itself does not use the prefetched resources
+        final boolean prefetchHttp = HttpLocationLoader.AVAILABLE && !isHttpResourceOverridden();
+        final List<URI> uris = new ArrayList<>(locations.length);
+        final List<URI> httpUris = new ArrayList<>();
         for (String location : locations) {
             final URI uri = URI_CONVERTER.convert(location);
+            uris.add(uri);
+            if (prefetchHttp && uri.getScheme() != null && uri.getScheme().startsWith("http")
+                    && validExtension(uri.getPath())) {
+                httpUris.add(uri);
+            }
+        }
+        // fetch all http resources concurrently, and consume them in the locations order
+        final Map<URI, CompletableFuture<HttpLocationLoader.Resource>> httpResources = httpLoader.fetchAll(httpUris);
+
+        final List<ConfigSource> configSources = new ArrayList<>();
+        for (URI uri : uris) {
             if (uri.getScheme() == null) {
                 configSources.addAll(tryFileSystem(uri, ordinal));
                 configSources.addAll(tryClassPath(uri, ordinal, classLoader));
@@ -111,7 +130,8 @@ public abstract class AbstractLocationConfigSourceLoader {
             } else if (uri.getScheme().equals("jar")) {
                 configSources.addAll(tryJar(uri, ordinal));
             } else if (uri.getScheme().startsWith("http")) {
-                configSources.addAll(tryHttpResource(uri, ordinal));
+                configSources.addAll(prefetchHttp ? tryHttpResource(uri, ordinal, httpLoader, httpResources.get(uri))
+                        : tryHttpResource(uri, ordinal));
             } else {
                 throw ConfigMessages.msg.schemeNotSupported(uri.getScheme());
             }
@@ -142,8 +162,11 @@ public abstract class AbstractLocationConfigSourceLoader {
         final List<ConfigSource> configSources = new ArrayList<>();
         final ClassLoader useClassloader = classLoader != null ? classLoader : SecuritySupport.getContextClassLoader();
         try {
-            consumeAsPaths(useClassloader, uri.getPath(),
-                    new ConfigSourceClassPathConsumer(classLoader, uri, ordinal, configSources));
+            ConfigSourceClassPathConsumer consumer = new ConfigSourceClassPathConsumer(classLoader, uri, ordinal,
+                    configSources);
+            for (URL url : ClassPathResources.of(useClassloader).getResources(uri.getPath())) {
+                consumeAsPath(url, consumer);
+            }
         } catch (IOException e) {
             throw ConfigMessages.msg.failedToLoadResource(e, uri.toString());
         } catch (IllegalArgumentException e) {
@@ -164,10 +187,9 @@ public abstract class AbstractLocationConfigSourceLoader {
 
     protected List<ConfigSource> fallbackToUnknownProtocol(final URI uri, final int ordinal, final ClassLoader classLoader) {
         List<ConfigSource> configSources = new ArrayList<>();
+        ClassPathResources classPathResources = ClassPathResources.of(classLoader);
         try {
-            Enumeration<URL> resources = classLoader.getResources(uri.toString());
-            while (resources.hasMoreElements()) {
-                URL resourceUrl = resources.nextElement();
+            for (URL resourceUrl : classPathResources.getResources(uri.toString())) {
                 if (validExtension(resourceUrl.getFile())) {
                     ConfigSource mainSource = loadConfigSourceInternal(resourceUrl, ordinal);
                     configSources.add(mainSource);
@@ -178,10 +200,8 @@ public abstract class AbstractLocationConfigSourceLoader {
                             for (String fileExtension : getFileExtensions()) {
                                 URI profileUri = addProfileName(uri, profiles.get(i), fileExtension);
                                 try {
-                                    Enumeration<URL> profileResources = classLoader.getResources(profileUri.toString());
-                                    while (profileResources.hasMoreElements()) {
-                                        profileSources
-                                                .addAll(loadProfileConfigSource(profileResources.nextElement(), mainOrdinal));
+                                    for (URL profileUrl : classPathResources.getResources(profileUri.toString())) {
+                                        profileSources.addAll(loadProfileConfigSource(profileUrl, mainOrdinal));
                                     }
                                 } catch (IOException e) {
                                     // It is ok to not find the resource here, because it is an optional profile resource.
@@ -199,15 +219,55 @@ public abstract class AbstractLocationConfigSourceLoader {
     }
 
     protected List<ConfigSource> tryHttpResource(final URI uri, final int ordinal) {
+        if (!HttpLocationLoader.AVAILABLE) {
+            // without the java.net.http module, the resource is read from the URL stream
+            final List<ConfigSource> configSources = new ArrayList<>();
+            if (validExtension(uri.getPath())) {
+                ConfigSource mainSource = loadConfigSource(uri, ordinal);
+                configSources.add(mainSource);
+                configSources.add(profileConfigSourceFactory(uri, mainSource.getOrdinal()));
+            }
+            return configSources;
+        }
+        return tryHttpResource(uri, ordinal, HttpLocationLoader.DEFAULT, null);
+    }
+
+    private List<ConfigSource> tryHttpResource(final URI uri, final int ordinal, final HttpLocationLoader httpLoader,
+            final CompletableFuture<HttpLocationLoader.Resource> resource) {
         final List<ConfigSource> configSources = new ArrayList<>();
         if (validExtension(uri.getPath())) {
-            ConfigSource mainSource = loadConfigSource(uri, ordinal);
+            ConfigSource mainSource;
+            try {
+                mainSource = loadHttpConfigSource(httpLoader,
+                        HttpLocationLoader.join(resource != null ? resource : httpLoader.fetch(uri)), ordinal);
+            } catch (IOException e) {
+                throw ConfigMessages.msg.failedToLoadResource(e, uri.toString());
+            }
             configSources.add(mainSource);
-            configSources.add(profileConfigSourceFactory(uri, mainSource.getOrdinal()));
+            configSources.add(new ConfigurableConfigSource(
+                    new HttpProfileConfigSourceFactory(uri, mainSource.getOrdinal(), httpLoader)));
         }
         return configSources;
     }
 
+    private boolean isHttpResourceOverridden() {
+        for (Class<?> type = getClass(); type != AbstractLocationConfigSourceLoader.class; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod("tryHttpResource", URI.class, int.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // continue with the superclass
+            }
+        }
+        return false;
+    }
+
+    private ConfigSource loadHttpConfigSource(final HttpLocationLoader httpLoader, final HttpLocationLoader.Resource resource,
+            final int ordinal) throws IOException {
+        return httpLoader.refreshing(resource, loadConfigSource(resource.toURL(), ordinal),
+                url -> loadConfigSource(url, ordinal));
+    }
+
     private static URL toURL(final URI uri) {
         try {
             return uri.toURL();
@@ -338,6 +398,52 @@ public abstract class AbstractLocationConfigSourceLoader {
         }
     }
 
+    private final class HttpProfileConfigSourceFactory implements ProfileConfigSourceFactory {
+        private final URI uri;
+        private final int ordinal;
+        private final HttpLocationLoader httpLoader;
+
+        HttpProfileConfigSourceFactory(final URI uri, final int ordinal, final HttpLocationLoader httpLoader) {
+            this.uri = uri;
+            this.ordinal = ordinal;
+            this.httpLoader = httpLoader;
+        }
+
+        @Override
+        public Iterable<ConfigSource> getProfileConfigSources(final List<String> profiles) {
+            // request all profile resources at once, and then load them in the profiles order
+            List<URI> profileUris = new ArrayList<>();
+            for (int i = profiles.size() - 1; i >= 0; i--) {
+                for (String fileExtension : getFileExtensions()) {
+                    profileUris.add(addProfileName(uri, profiles.get(i), fileExtension));
+                }
+            }
+            Map<URI, CompletableFuture<HttpLocationLoader.Resource>> resources = httpLoader.fetchAll(profileUris);
+
+            List<ConfigSource> profileSources = new ArrayList<>();
+            for (int i = profiles.size() - 1; i >= 0; i--) {
+                int ordinal = this.ordinal + profiles.size() - i;
+                for (String fileExtension : getFileExtensions()) {
+                    URI profileUri = addProfileName(uri, profiles.get(i), fileExtension);
+                    try {
+                        profileSources.add(loadHttpConfigSource(httpLoader,
+                                HttpLocationLoader.join(resources.get(profileUri)), ordinal));
+                    } catch (FileNotFoundException e) {
+                        // It is ok to not find the resource here, because it is an optional profile resource.
+                    } catch (IOException e) {
+                        throw ConfigMessages.msg.failedToLoadResource(e, profileUri.toString());
+                    }
+                }
+            }
+            return profileSources;
+        }
+
+        @Override
+        public OptionalInt getPriority() {
+            return OptionalInt.of(ordinal);
+        }
+    }
+
     protected final class ConfigSourcePathConsumer implements Consumer<Path> {
         private final int ordinal;
         private final List<ConfigSource> configSources;
@@ -405,8 +511,7 @@ public abstract class AbstractLocationConfigSourceLoader {
         }
 
         private boolean isInClassloader(final URI profileResource, final URI profileUri) {
-            return classLoader.resources(profileResource.getPath())
-                    .anyMatch(url -> url.toString().equals(profileUri.toString()));
+            return ClassPathResources.of(classLoader).contains(profileResource.getPath(), profileUri.toString());
         }
     }
 }
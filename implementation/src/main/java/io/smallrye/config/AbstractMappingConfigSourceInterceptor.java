@@ -1,6 +1,7 @@
 package io.smallrye.config;
 
 import java.io.Serial;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Function;
@@ -10,18 +11,42 @@ public abstract class AbstractMappingConfigSourceInterceptor implements ConfigSo
     private static final long serialVersionUID = -3181156290079915301L;
 
     private final Function<String, String> mapping;
+    private final NameMappingTable table;
 
     public AbstractMappingConfigSourceInterceptor(final Function<String, String> mapping) {
         this.mapping = mapping != null ? mapping : Function.identity();
+        this.table = null;
     }
 
+    /**
+     * Creates the interceptor with the exact names mappings of a {@link Map}. The interceptor reads the {@link Map}
+     * directly, so mappings added to the {@link Map} after the configuration is built are used. Because its mappings
+     * may change, the interceptor is never fused with other interceptors, or left out of the chain when the
+     * {@link Map} is empty. Use {@link #AbstractMappingConfigSourceInterceptor(Map, Map)} for a copy of the mappings.
+     *
+     * @param mappings the exact names mappings
+     */
     public AbstractMappingConfigSourceInterceptor(final Map<String, String> mappings) {
-        this(new Function<String, String>() {
-            @Override
-            public String apply(final String name) {
-                return mappings.getOrDefault(name, name);
-            }
-        });
+        this.mapping = new NameMappingTable(mappings);
+        this.table = null;
+    }
+
+    /**
+     * Creates the interceptor with a table of exact names and prefixes mappings. A prefix maps all the names that
+     * start with the prefix followed by a segment separator, or that are equal to the prefix, by replacing the prefix.
+     * An exact name has precedence over a prefix, and a longer prefix has precedence over a shorter prefix.
+     * <p>
+     * A table is preferred to a {@link Function} with a large number of mappings, because the table only requires a
+     * few lookups to map a name, instead of testing every mapping. The mappings are copied, so the interceptor may be
+     * fused with other interceptors, or left out of the chain if it has no mappings.
+     *
+     * @param mappings the exact names mappings
+     * @param prefixMappings the prefixes mappings
+     */
+    public AbstractMappingConfigSourceInterceptor(final Map<String, String> mappings,
+            final Map<String, String> prefixMappings) {
+        this.table = new NameMappingTable(new HashMap<>(mappings), new HashMap<>(prefixMappings));
+        this.mapping = table;
     }
 
     @Override
@@ -55,4 +80,14 @@ public abstract class AbstractMappingConfigSourceInterceptor implements ConfigSo
     protected Function<String, String> getMapping() {
         return mapping;
     }
+
+    /**
+     * The table of mappings, if the interceptor was created with a copy of the mappings.
+     *
+     * @return the table of mappings, or {@code null} if the interceptor was created with a {@link Function}, or with
+     *         a single {@link Map}
+     */
+    NameMappingTable getTable() {
+        return table;
+    }
 }
@@ -0,0 +1,55 @@
+package io.smallrye.config;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import io.smallrye.config._private.ConfigMessages;
+
+/**
+ * A {@link SecretKeysHandler} that decodes multiple secrets in a single call, for handlers backed by a remote store,
+ * where each call requires a round trip.
+ * <p>
+ * When the configuration is built, all the secrets of the handler referenced in the configuration values, as
+ * {@code ${handler::secret}}, are decoded with a single call to {@link #decodeAll(Collection)}. The decoded secrets
+ * are cached for the {@link #getTtl()}. A lookup of an expired secret returns the cached secret, and decodes all
+ * the expired secrets again, asynchronously, with a single call to {@link #decodeAll(Collection)}. A secret not
+ * referenced when the configuration was built is decoded on its first lookup, and then cached.
+ */
+public interface BatchSecretKeysHandler extends SecretKeysHandler {
+    /**
+     * Decodes multiple secret configuration values.
+     *
+     * @param secrets the values to decode
+     * @return the secrets decoded, by the value to decode. A secret missing from the result is not found, and its
+     *         lookup fails with a {@link java.util.NoSuchElementException}
+     */
+    Map<String, String> decodeAll(Collection<String> secrets);
+
+    /**
+     * Decodes the secret configuration value, with {@link #decodeAll(Collection)}.
+     *
+     * @param secret the value to decode.
+     * @return the secret decoded.
+     * @throws java.util.NoSuchElementException if the secret is missing from the result of
+     *         {@link #decodeAll(Collection)}
+     */
+    @Override
+    default String decode(String secret) {
+        String decoded = decodeAll(List.of(secret)).get(secret);
+        if (decoded == null) {
+            throw ConfigMessages.msg.secretNotFound(secret, getName());
+        }
+        return decoded;
+    }
+
+    /**
+     * The time to keep a decoded secret in the cache, before decoding it again.
+     *
+     * @return the time to keep a decoded secret in the cache, by default 5 minutes
+     */
+    default Duration getTtl() {
+        return Duration.ofMinutes(5);
+    }
+}
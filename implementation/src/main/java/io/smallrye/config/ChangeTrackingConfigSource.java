@@ -0,0 +1,44 @@
+package io.smallrye.config;
+
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * Extends the original {@link ConfigSource} to report the changes to its property names.
+ * <p>
+ * {@link SmallRyeConfig} caches the names of all the configuration sources. When the cache is refreshed with
+ * {@link SmallRyeConfig#getLatestPropertyNames()}, only the names that changed are resolved, and the cache is updated
+ * with them. The changes of a {@link ConfigSource} that does not implement this interface are found by comparing its
+ * names with the names of the previous refresh. A {@link ChangeTrackingConfigSource} reports its changes directly,
+ * without requiring a copy and a comparison of all its names.
+ * <p>
+ * Each change to the property names must increment the {@link #getNamesVersion()}.
+ */
+public interface ChangeTrackingConfigSource extends ConfigSource {
+    /**
+     * Returns the current version of the property names in this configuration source.
+     *
+     * @return the current version of the property names
+     */
+    long getNamesVersion();
+
+    /**
+     * Returns the changes to the property names in this configuration source, since a previous version.
+     *
+     * @param version a version previously returned by {@link #getNamesVersion()}
+     * @return the changes to the property names since the version, or {@code null} if the changes are no longer
+     *         available, which requires the names to be resolved again
+     */
+    NamesDelta getNamesDelta(long version);
+
+    /**
+     * The changes to the property names of a {@link ChangeTrackingConfigSource}.
+     *
+     * @param version the version of the property names after the changes
+     * @param added the names added
+     * @param removed the names removed
+     */
+    record NamesDelta(long version, Set<String> added, Set<String> removed) {
+    }
+}
@@ -0,0 +1,130 @@
+package io.smallrye.config;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A record of the resources found by name in a {@link ClassLoader}, shared by all the
+ * {@link AbstractLocationConfigSourceLoader} that query the same {@link ClassLoader}.
+ * <p>
+ * Each {@link ClassLoader#getResources(String)} query is a scan of the whole class path, and most of the queries
+ * issued by the loaders are misses, looking up profile variants, like {@code application-prod.yaml}, that do not
+ * exist. The result of each query is recorded, so the same resource name is only queried once per
+ * {@link ClassLoader}, and further lookups of the name are map lookups.
+ * <p>
+ * A {@link ClassLoader} does not provide a way to list its resources, so this is not an index of all the
+ * configuration files of the class path. Each name is still queried once, with a scan of the class path, the first
+ * time it is looked up. Only repeated lookups of the same name, mostly by repeated builds of the configuration with
+ * the same {@link ClassLoader}, benefit from the record.
+ * <p>
+ * Only misses and resources with the {@code file} or {@code jar} protocols are recorded. Resources from other
+ * protocols may hold a reference to the {@link ClassLoader} in their {@link java.net.URLStreamHandler}, and recording
+ * them would prevent the {@link ClassLoader} from being collected. Nothing is recorded if the {@link ClassLoader} has
+ * directories in its class path, because a file may be added to or removed from a directory later, for instance, in
+ * development mode. Use {@link #clear(ClassLoader)} to discard the record of a {@link ClassLoader}, when its
+ * resources change.
+ */
+final class ClassPathResources {
+    private static final Map<ClassLoader, ClassPathResources> RESOURCES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WeakReference<ClassLoader> classLoader;
+    private final Map<String, List<URL>> resources = new ConcurrentHashMap<>();
+    private volatile Boolean directories;
+
+    private ClassPathResources(final ClassLoader classLoader) {
+        this.classLoader = new WeakReference<>(classLoader);
+    }
+
+    /**
+     * Get the {@link ClassPathResources} of a {@link ClassLoader}.
+     *
+     * @param classLoader the {@link ClassLoader}, or {@code null} for the system {@link ClassLoader}
+     * @return the {@link ClassPathResources} of the {@link ClassLoader}
+     */
+    static ClassPathResources of(final ClassLoader classLoader) {
+        return RESOURCES.computeIfAbsent(classLoader != null ? classLoader : ClassLoader.getSystemClassLoader(),
+                ClassPathResources::new);
+    }
+
+    /**
+     * Discards the record of the resources of a {@link ClassLoader}.
+     *
+     * @param classLoader the {@link ClassLoader}, or {@code null} for the system {@link ClassLoader}
+     */
+    static void clear(final ClassLoader classLoader) {
+        RESOURCES.remove(classLoader != null ? classLoader : ClassLoader.getSystemClassLoader());
+    }
+
+    /**
+     * Finds all the resources with the given name, like {@link ClassLoader#getResources(String)}.
+     *
+     * @param name the resource name
+     * @return the {@link URL}s of the resources, or an empty list if no resource was found
+     * @throws IOException if an I/O error occurs
+     */
+    List<URL> getResources(final String name) throws IOException {
+        List<URL> urls = resources.get(name);
+        if (urls != null) {
+            return urls;
+        }
+
+        ClassLoader classLoader = this.classLoader.get();
+        if (classLoader == null) {
+            return Collections.emptyList();
+        }
+
+        urls = List.copyOf(Collections.list(classLoader.getResources(name)));
+        if (!hasDirectories(classLoader) && isRecordable(urls)) {
+            resources.putIfAbsent(name, urls);
+        }
+        return urls;
+    }
+
+    /**
+     * Checks if a resource with the given name is found in the exact {@link URL}.
+     *
+     * @param name the resource name
+     * @param url the {@link URL} of the resource, in its external form
+     * @return {@code true} if the resource is found in the {@link URL}, or {@code false} otherwise
+     */
+    boolean contains(final String name, final String url) {
+        try {
+            for (URL resource : getResources(name)) {
+                if (resource.toString().equals(url)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the class path of a {@link ClassLoader} has directories, where resources may be added later. A
+     * {@link ClassLoader} only finds the empty resource name in directories.
+     */
+    private boolean hasDirectories(final ClassLoader classLoader) throws IOException {
+        Boolean directories = this.directories;
+        if (directories == null) {
+            directories = this.directories = classLoader.getResources("").hasMoreElements();
+        }
+        return directories;
+    }
+
+    private static boolean isRecordable(final List<URL> urls) {
+        for (URL url : urls) {
+            String protocol = url.getProtocol();
+            if (!"file".equals(protocol) && !"jar".equals(protocol)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
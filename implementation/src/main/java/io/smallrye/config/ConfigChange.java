@@ -0,0 +1,39 @@
+package io.smallrye.config;
+
+/**
+ * A change to the value of a configuration name, between two generations of a reloadable configuration, notified to
+ * the listeners registered with {@link SmallRyeConfig#onChange(String, java.util.function.Consumer)}.
+ *
+ * @param name the configuration name
+ * @param oldValue the {@link ConfigValue} of the name in the previous generation, or {@code null} if the name had no
+ *        value
+ * @param newValue the {@link ConfigValue} of the name in the new generation, or {@code null} if the name has no value
+ */
+public record ConfigChange(String name, ConfigValue oldValue, ConfigValue newValue) {
+    /**
+     * Checks if the name was added in the new generation.
+     *
+     * @return {@code true} if the name had no value in the previous generation, or {@code false} otherwise
+     */
+    public boolean isAdded() {
+        return oldValue == null;
+    }
+
+    /**
+     * Checks if the name was removed in the new generation.
+     *
+     * @return {@code true} if the name has no value in the new generation, or {@code false} otherwise
+     */
+    public boolean isRemoved() {
+        return newValue == null;
+    }
+
+    /**
+     * A registration of a listener of configuration changes. Closing the registration stops the notifications to the
+     * listener.
+     */
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,209 @@
+package io.smallrye.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import io.smallrye.config._private.ConfigLogging;
+
+/**
+ * The listeners of configuration changes of a reloadable {@link SmallRyeConfig}, indexed by the name they subscribe to.
+ * <p>
+ * A listener subscribes to a name, and optionally to all the names under it, separated by a segment separator
+ * {@code .} or an index {@code [}. A name is only looked up with the lengths of the subscribed names, so checking if a
+ * name has listeners requires one lookup for each distinct length that fits the name. The index is replaced on each
+ * subscription, so a notification never locks.
+ */
+final class ConfigChangeListeners {
+    private static final Index EMPTY = new Index(Collections.emptyMap(), new int[0], false);
+
+    private final Executor executor;
+    private volatile Index index = EMPTY;
+
+    /**
+     * Creates the listeners registry.
+     *
+     * @param executor the {@link Executor} to notify the listeners, or {@code null} to use the {@link Executor} of
+     *        the reload
+     */
+    ConfigChangeListeners(final Executor executor) {
+        this.executor = executor;
+    }
+
+    ConfigChange.Subscription subscribe(final String name, final boolean children, final Consumer<ConfigChange> consumer) {
+        Listener listener = new Listener(name, children, consumer);
+        synchronized (this) {
+            Map<String, List<Listener>> names = copy(index.names());
+            names.computeIfAbsent(name, k -> new ArrayList<>()).add(listener);
+            index = Index.of(names);
+        }
+        return listener;
+    }
+
+    private synchronized void unsubscribe(final Listener listener) {
+        Map<String, List<Listener>> names = copy(index.names());
+        List<Listener> listeners = names.get(listener.name);
+        if (listeners != null && listeners.remove(listener)) {
+            if (listeners.isEmpty()) {
+                names.remove(listener.name);
+            }
+            index = Index.of(names);
+        }
+    }
+
+    boolean isEmpty() {
+        return index.names().isEmpty();
+    }
+
+    /**
+     * The subscribed names. The names are not required to be in the property names of the configuration, for instance,
+     * an environment variable.
+     *
+     * @return the subscribed names
+     */
+    Set<String> names() {
+        return index.names().keySet();
+    }
+
+    /**
+     * Checks if a listener is subscribed to the names under its name. Only then the names of the configuration need
+     * to be matched with the listeners, to find the names under the subscribed names.
+     *
+     * @return {@code true} if a listener is subscribed to the names under its name, or {@code false} otherwise
+     */
+    boolean hasChildrenListeners() {
+        return index.children();
+    }
+
+    /**
+     * Checks if a name has listeners, subscribed to the name or to the names under a parent name.
+     *
+     * @param name the configuration name
+     * @return {@code true} if the name has listeners, or {@code false} otherwise
+     */
+    boolean hasListeners(final String name) {
+        Index index = this.index;
+        for (int length : index.lengths()) {
+            if (name.length() == length) {
+                if (index.names().containsKey(name)) {
+                    return true;
+                }
+            } else if (name.length() > length && isSeparator(name.charAt(length))) {
+                List<Listener> listeners = index.names().get(name.substring(0, length));
+                if (listeners != null) {
+                    for (Listener listener : listeners) {
+                        if (listener.children) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Notifies the changes to the listeners. Each listener is notified in a single task of the {@link Executor}, with
+     * its changes in order.
+     *
+     * @param changes the changes
+     * @param reloadExecutor the {@link Executor} of the reload, used if the registry has no {@link Executor}
+     */
+    void notify(final List<ConfigChange> changes, final Executor reloadExecutor) {
+        Index index = this.index;
+        Map<Listener, List<ConfigChange>> notifications = new LinkedHashMap<>();
+        for (ConfigChange change : changes) {
+            String name = change.name();
+            for (int length : index.lengths()) {
+                List<Listener> listeners = null;
+                if (name.length() == length) {
+                    listeners = index.names().get(name);
+                } else if (name.length() > length && isSeparator(name.charAt(length))) {
+                    listeners = index.names().get(name.substring(0, length));
+                }
+                if (listeners != null) {
+                    for (Listener listener : listeners) {
+                        if (listener.children || name.length() == length) {
+                            notifications.computeIfAbsent(listener, k -> new ArrayList<>()).add(change);
+                        }
+                    }
+                }
+            }
+        }
+
+        Executor executor = this.executor != null ? this.executor : reloadExecutor;
+        for (Map.Entry<Listener, List<ConfigChange>> notification : notifications.entrySet()) {
+            Listener listener = notification.getKey();
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    for (ConfigChange change : notification.getValue()) {
+                        if (listener.closed) {
+                            return;
+                        }
+                        try {
+                            listener.consumer.accept(change);
+                        } catch (RuntimeException e) {
+                            ConfigLogging.log.changeListenerFailure(e, change.name());
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    private static boolean isSeparator(final char c) {
+        return c == '.' || c == '[';
+    }
+
+    private static Map<String, List<Listener>> copy(final Map<String, List<Listener>> names) {
+        Map<String, List<Listener>> copy = new HashMap<>();
+        for (Map.Entry<String, List<Listener>> entry : names.entrySet()) {
+            copy.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        return copy;
+    }
+
+    private record Index(Map<String, List<Listener>> names, int[] lengths, boolean children) {
+        static Index of(final Map<String, List<Listener>> names) {
+            if (names.isEmpty()) {
+                return EMPTY;
+            }
+            TreeSet<Integer> lengths = new TreeSet<>(Collections.reverseOrder());
+            boolean children = false;
+            for (Map.Entry<String, List<Listener>> entry : names.entrySet()) {
+                lengths.add(entry.getKey().length());
+                for (Listener listener : entry.getValue()) {
+                    children |= listener.children;
+                }
+            }
+            return new Index(names, lengths.stream().mapToInt(Integer::intValue).toArray(), children);
+        }
+    }
+
+    private final class Listener implements ConfigChange.Subscription {
+        private final String name;
+        private final boolean children;
+        private final Consumer<ConfigChange> consumer;
+        private volatile boolean closed;
+
+        Listener(final String name, final boolean children, final Consumer<ConfigChange> consumer) {
+            this.name = name;
+            this.children = children;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            unsubscribe(this);
+        }
+    }
+}
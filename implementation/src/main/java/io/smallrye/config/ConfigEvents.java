@@ -0,0 +1,146 @@
+package io.smallrye.config;
+
+import java.util.Objects;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events of SmallRye Config.
+ * <p>
+ * The {@link BuildPhaseEvent} records the duration of each phase of the configuration build, and is enabled by
+ * default. The {@link LookupEvent} records the lookups of configuration names, and is disabled by default, because of
+ * the number of lookups. It can be enabled in a recording, optionally with a threshold to only record slow lookups.
+ * <p>
+ * The events are only created if the {@code jdk.jfr} module is available. A {@link LookupEvent} is only created if the
+ * event is enabled in a recording, so a lookup that is not recorded only checks the state of the event type.
+ */
+final class ConfigEvents {
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private static final BuildPhase NO_BUILD_PHASE = new BuildPhase() {
+        @Override
+        public void end(final int count) {
+        }
+    };
+
+    private ConfigEvents() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Begins a phase of the configuration build.
+     *
+     * @param phase the name of the phase
+     * @return the {@link BuildPhase}, to end when the phase completes
+     */
+    static BuildPhase beginBuildPhase(final String phase) {
+        return AVAILABLE ? new BuildPhaseEvent(phase) : NO_BUILD_PHASE;
+    }
+
+    /**
+     * Looks up a configuration name in the interceptor chain, and records the lookup.
+     *
+     * @param interceptorChain the interceptor chain
+     * @param name the configuration name
+     * @return the {@link ConfigValue} of the configuration name, or {@code null} if the name has no value
+     */
+    static ConfigValue lookup(final ConfigSourceInterceptorContext interceptorChain, final String name) {
+        if (!AVAILABLE) {
+            return interceptorChain.proceed(name);
+        }
+        return LookupEvent.lookup(interceptorChain, name);
+    }
+
+    interface BuildPhase {
+        /**
+         * Ends the phase of the configuration build.
+         *
+         * @param count the number of elements processed by the phase, like sources, interceptors or mappings
+         */
+        void end(int count);
+    }
+
+    @Name("io.smallrye.config.BuildPhase")
+    @Label("Config Build Phase")
+    @Category("SmallRye Config")
+    @Description("A phase of the configuration build")
+    @StackTrace(false)
+    static final class BuildPhaseEvent extends Event implements BuildPhase {
+        @Label("Phase")
+        String phase;
+
+        @Label("Count")
+        @Description("The number of elements processed by the phase")
+        int count;
+
+        BuildPhaseEvent(final String phase) {
+            this.phase = phase;
+            begin();
+        }
+
+        @Override
+        public void end(final int count) {
+            end();
+            if (shouldCommit()) {
+                this.count = count;
+                commit();
+            }
+        }
+    }
+
+    @Name("io.smallrye.config.Lookup")
+    @Label("Config Lookup")
+    @Category("SmallRye Config")
+    @Description("A lookup of a configuration name")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class LookupEvent extends Event {
+        private static final EventType TYPE = EventType.getEventType(LookupEvent.class);
+
+        @Label("Name")
+        String name;
+
+        @Label("Found")
+        boolean found;
+
+        @Label("Config Source")
+        @Description("The name of the source that provided the value")
+        String configSource;
+
+        @Label("Config Source Ordinal")
+        int configSourceOrdinal;
+
+        @Label("Expanded")
+        @Description("If the value was expanded from an expression")
+        boolean expanded;
+
+        static ConfigValue lookup(final ConfigSourceInterceptorContext interceptorChain, final String name) {
+            if (!TYPE.isEnabled()) {
+                return interceptorChain.proceed(name);
+            }
+
+            LookupEvent event = new LookupEvent();
+            event.begin();
+            ConfigValue configValue = interceptorChain.proceed(name);
+            event.end();
+            if (event.shouldCommit()) {
+                event.name = name;
+                if (configValue != null) {
+                    event.found = configValue.getValue() != null;
+                    event.configSource = configValue.getConfigSourceName();
+                    event.configSourceOrdinal = configValue.getConfigSourceOrdinal();
+                    event.expanded = !Objects.equals(configValue.getValue(), configValue.getRawValue());
+                }
+                event.commit();
+            }
+            return configValue;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.Converters.newOptionalConverter;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.config._private.ConfigMessages;
+
+/**
+ * A handle to a configuration name, bound to a type, the {@link Converter} of the type, and an optional default value,
+ * created with {@link SmallRyeConfig#key(String, Class)}.
+ * <p>
+ * The value is resolved and converted on the first call to {@link #get()} or {@link #getOptional()}, like with
+ * {@link SmallRyeConfig#getOptionalValue(String, Class)}, including profiles, relocations and expressions. Further
+ * calls return the same value, until the {@link SmallRyeConfig#getGeneration()} changes with a
+ * {@link SmallRyeConfig#reload()}. A change in the value of a configuration source without a reload is not visible in
+ * the handle.
+ * <p>
+ * A value resolved while the {@link SecretKeys} are unlocked is not kept, so a handle to a Secret Key never returns the
+ * value when the {@link SecretKeys} are locked.
+ *
+ * @param <T> the type of the value
+ */
+public final class ConfigKey<T> {
+    private final SmallRyeConfig config;
+    private final String name;
+    private final Class<T> type;
+    private final Converter<Optional<T>> converter;
+    private final T defaultValue;
+
+    private volatile Value<T> value;
+
+    ConfigKey(final SmallRyeConfig config, final String name, final Class<T> type, final String defaultValue) {
+        this.config = config;
+        this.name = name;
+        this.type = type;
+        Converter<T> converter = config.requireConverter(type);
+        this.converter = type.isArray() ? null : newOptionalConverter(converter);
+        this.defaultValue = defaultValue != null ? config.convertValue(
+                ConfigValue.builder().withName(name).withValue(defaultValue).build(), converter) : null;
+    }
+
+    /**
+     * The configuration name of the handle.
+     *
+     * @return the configuration name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The type of the value of the handle.
+     *
+     * @return the type of the value
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the value of the configuration name, or the default value if the configuration name has no value.
+     *
+     * @return the value of the configuration name
+     * @throws NoSuchElementException if the configuration name has no value and the handle has no default value
+     * @throws IllegalArgumentException if the value cannot be converted to the type
+     */
+    public T get() {
+        Optional<T> optional = getOptional();
+        if (optional.isEmpty()) {
+            throw new NoSuchElementException(ConfigMessages.msg.propertyNotFound(name));
+        }
+        return optional.get();
+    }
+
+    /**
+     * Returns the value of the configuration name, or the default value if the configuration name has no value.
+     *
+     * @return the value of the configuration name, or an empty {@link Optional} if the configuration name has no value
+     *         and the handle has no default value
+     * @throws IllegalArgumentException if the value cannot be converted to the type
+     */
+    public Optional<T> getOptional() {
+        long generation = config.getGeneration();
+        Value<T> value = this.value;
+        if (value != null && value.generation() == generation) {
+            return value.value();
+        }
+
+        // resolve after reading the generation, so a concurrent reload is detected by the next call
+        Optional<T> resolved = type.isArray() ? config.getOptionalValue(name, type) : config.getValue(name, converter);
+        if (resolved.isEmpty() && defaultValue != null) {
+            resolved = Optional.of(defaultValue);
+        }
+        if (SecretKeys.isLocked()) {
+            this.value = new Value<>(generation, resolved);
+        }
+        return resolved;
+    }
+
+    private record Value<T>(long generation, Optional<T> value) {
+    }
+}
@@ -66,6 +66,24 @@ public @interface ConfigMapping {
      */
     boolean beanStyleGetters() default false;
 
+    /**
+     * Convert the values of the config mapping members on the first call of each member, instead of when the config
+     * mapping is created. By default, lazy conversion is <code>disabled</code>.
+     * <p>
+     * Lazy conversion applies to the members of the annotated interface that map a single value, either required or
+     * <code>Optional</code>, except for <code>Secret</code> and <code>ConfigValue</code> members. The values are still
+     * looked up, and the converters resolved, when the config mapping is created, so a missing required value is
+     * reported on startup, but a value that fails to convert is only reported by the first call of the member. Other
+     * members, including the members of nested groups, are always converted when the config mapping is created.
+     * <p>
+     * Lazy conversion reduces the startup cost of config mappings with a large number of members, when only some of
+     * the members are used.
+     *
+     * @return a boolean <code>true</code> to convert the values of the members on their first call, or
+     *         <code>false</code> to convert all values when the config mapping is created.
+     */
+    boolean lazyConversion() default false;
+
     enum NamingStrategy implements Function<String, String> {
         /**
          * The method name is used as is to map the configuration property.
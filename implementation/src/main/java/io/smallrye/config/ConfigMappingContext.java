@@ -609,6 +609,40 @@ public final class ConfigMappingContext {
             return this;
         }
 
+        /**
+         * Looks up the value of a property, to be converted on the first call of the property accessor. The
+         * {@link Converter} is resolved, and a missing or empty value is converted, as in {@link #value}, so a missing
+         * required property is still reported when the mapping is created.
+         */
+        public static <V> LazyValue<V> lazyValue(
+                final ConfigMappingContext context,
+                final boolean applyNamingStrategy,
+                final String name,
+                final Class<V> valueRawType,
+                final Class<? extends Converter<V>> valueConvertWith) {
+            String propertyName = context.toPropertyName(name, applyNamingStrategy);
+            Converter<V> converter = context.getConverter(valueRawType, valueConvertWith);
+            context.usedProperties.add(propertyName);
+            return new LazyValue<>(context.config, context.config.getConfigValue(propertyName), converter);
+        }
+
+        /**
+         * Looks up the value of an optional property, to be converted on the first call of the property accessor.
+         *
+         * @see #lazyValue(ConfigMappingContext, boolean, String, Class, Class)
+         */
+        public static <V> LazyValue<Optional<V>> lazyOptionalValue(
+                final ConfigMappingContext context,
+                final boolean applyNamingStrategy,
+                final String name,
+                final Class<V> valueRawType,
+                final Class<? extends Converter<V>> valueConvertWith) {
+            String propertyName = context.toPropertyName(name, applyNamingStrategy);
+            Converter<Optional<V>> converter = newOptionalConverter(context.getConverter(valueRawType, valueConvertWith));
+            context.usedProperties.add(propertyName);
+            return new LazyValue<>(context.config, context.config.getConfigValue(propertyName), converter);
+        }
+
         public static <V> Optional<V> optionalValue(
                 final ConfigMappingContext context,
                 final boolean applyNamingStrategy,
@@ -1030,6 +1064,48 @@ public final class ConfigMappingContext {
         }
     }
 
+    /**
+     * The value of a mapping property, converted on the first call of the property accessor, for mappings with
+     * {@link ConfigMapping#lazyConversion()}. The value is looked up when the mapping is created, so the conversion
+     * does not require the configuration. The converted value is safely published to all threads, and a failure to
+     * convert the value is thrown to each call of the property accessor.
+     *
+     * @param <V> the property type
+     */
+    public static final class LazyValue<V> {
+        private static final Object UNCONVERTED = new Object();
+
+        private final SmallRyeConfig config;
+        private final ConfigValue configValue;
+        private final Converter<V> converter;
+        private volatile Object value = UNCONVERTED;
+
+        LazyValue(final SmallRyeConfig config, final ConfigValue configValue, final Converter<V> converter) {
+            this.config = config;
+            this.configValue = configValue;
+            this.converter = converter;
+            // A missing or empty value is reported, or converted to an empty value, when the mapping is created
+            if (configValue.hasProblems() || configValue.getValue() == null || configValue.getValue().isEmpty()) {
+                this.value = config.convertValue(configValue, converter);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        public V get() {
+            Object value = this.value;
+            if (value == UNCONVERTED) {
+                synchronized (this) {
+                    value = this.value;
+                    if (value == UNCONVERTED) {
+                        value = config.convertValue(configValue, converter);
+                        this.value = value;
+                    }
+                }
+            }
+            return (V) value;
+        }
+    }
+
     static class MapWithDefault<K, V> extends HashMap<K, V> {
         @Serial
         private static final long serialVersionUID = 1390928078837140814L;
@@ -105,6 +105,7 @@ public class ConfigMappingGenerator {
 
     private static final String I_MAPPING_CONTEXT = getInternalName(ConfigMappingContext.class);
     private static final String I_OBJECT_CREATOR = getInternalName(ConfigMappingContext.ObjectCreator.class);
+    private static final String I_LAZY_VALUE = getInternalName(ConfigMappingContext.LazyValue.class);
     private static final String I_NAMING_STRATEGY = getInternalName(NamingStrategy.class);
     private static final String I_BEAN_STYLE_GETTERS = getInternalName(BeanStyleGetters.class);
     private static final String I_STRING_BUILDER = getInternalName(StringBuilder.class);
@@ -376,16 +377,30 @@ public class ConfigMappingGenerator {
         for (Property property : mapping.getProperties()) {
             Method method = property.getMethod();
             String memberName = method.getName();
+            boolean lazy = isLazy(mapping, property);
 
             // Field Declaration
             String fieldType = getInternalName(method.getReturnType());
-            String fieldDesc = getDescriptor(method.getReturnType());
+            String fieldDesc = lazy ? D_LAZY_VALUE : getDescriptor(method.getReturnType());
             cv.visitField(ACC_PRIVATE, memberName, fieldDesc, null, null);
 
             // Getter
-            MethodVisitor mv = cv.visitMethod(ACC_PUBLIC, memberName, "()" + fieldDesc, null, null);
+            MethodVisitor mv = cv.visitMethod(ACC_PUBLIC, memberName, "()" + getDescriptor(method.getReturnType()), null,
+                    null);
             mv.visitVarInsn(ALOAD, V_THIS);
             mv.visitFieldInsn(GETFIELD, mapping.getClassInternalName(), memberName, fieldDesc);
+            if (lazy) {
+                // Converts the value on the first call
+                mv.visitMethodInsn(INVOKEVIRTUAL, I_LAZY_VALUE, "get", "()" + D_OBJECT, false);
+                if (property.isPrimitive()) {
+                    PrimitiveProperty primitive = property.asPrimitive();
+                    mv.visitTypeInsn(CHECKCAST, getInternalName(primitive.getBoxType()));
+                    mv.visitMethodInsn(INVOKEVIRTUAL, getInternalName(primitive.getBoxType()), primitive.getUnboxMethodName(),
+                            primitive.getUnboxMethodDescriptor(), false);
+                } else {
+                    mv.visitTypeInsn(CHECKCAST, fieldType);
+                }
+            }
             mv.visitInsn(getReturnInstruction(property));
             mv.visitEnd();
             mv.visitMaxs(0, 0);
@@ -404,9 +419,12 @@ public class ConfigMappingGenerator {
             ctor.visitLabel(_try);
 
             ctor.visitVarInsn(ALOAD, V_THIS);
-            generateProperty(ctor, property);
-
-            ctor.visitCast(property, fieldType);
+            if (lazy) {
+                generateLazyProperty(ctor, property);
+            } else {
+                generateProperty(ctor, property);
+                ctor.visitCast(property, fieldType);
+            }
             ctor.visitFieldInsn(PUTFIELD, mapping.getClassInternalName(), memberName, fieldDesc);
             ctor.visitJumpInsn(GOTO, _continue);
 
@@ -542,6 +560,42 @@ public class ConfigMappingGenerator {
         }
     }
 
+    /**
+     * Generates the lookup of a property with lazy conversion. The value is converted by the property accessor.
+     *
+     * @see #isLazy(ConfigMappingInterface, Property)
+     */
+    private static void generateLazyProperty(final ObjectCreatorMethodVisitor ctor, final Property property) {
+        ctor.visitVarInsn(ALOAD, V_MAPPING_CONTEXT);
+        ctor.visitPropertyName(property);
+        if (property.isPrimitive()) {
+            PrimitiveProperty primitiveProperty = property.asPrimitive();
+            ctor.visitLdcInsn(Type.getType(primitiveProperty.getBoxType()));
+            ctor.visitConverter(primitiveProperty);
+            ctor.visitMethod(LazyMethodInvocation.lazyValue);
+        } else {
+            LeafProperty leafProperty = property.asLeaf();
+            ctor.visitLdcInsn(Type.getType(leafProperty.getValueRawType()));
+            ctor.visitConverter(leafProperty);
+            ctor.visitMethod(property.isOptional() ? LazyMethodInvocation.lazyOptionalValue : LazyMethodInvocation.lazyValue);
+        }
+    }
+
+    /**
+     * Checks if a property of a mapping with {@link ConfigMapping#lazyConversion()} is converted on the first call of
+     * the accessor. Only properties with a single value are converted lazily, except for {@link Secret} and
+     * {@link ConfigValue} properties.
+     */
+    private static boolean isLazy(final ConfigMappingInterface mapping, final Property property) {
+        if (!mapping.isLazyConversion() || property.isDefaultMethod()) {
+            return false;
+        }
+        if (property.isPrimitive()) {
+            return true;
+        }
+        return property.isLeaf() && !property.isSecret() && property.asLeaf().getValueRawType() != ConfigValue.class;
+    }
+
     private static void generateNestedProperty(final ObjectCreatorMethodVisitor ctor, final Property property) {
         if (property.isGroup()) {
             ctor.visitGroupSupplier(property.asGroup().getGroupType().getInterfaceType());
@@ -708,6 +762,7 @@ public class ConfigMappingGenerator {
                 continue;
             }
 
+            boolean lazy = isLazy(mapping, property);
             if (property.isDefaultMethod()) {
                 property = property.asDefaultMethod().getDefaultProperty();
             }
@@ -717,8 +772,7 @@ public class ConfigMappingGenerator {
             ts.visitMethodInsn(INVOKEVIRTUAL, I_STRING_BUILDER, "append", "(L" + I_STRING + ";)L" + I_STRING_BUILDER + ";",
                     false);
             ts.visitVarInsn(ALOAD, V_THIS);
-            ts.visitFieldInsn(GETFIELD, mapping.getClassInternalName(), member,
-                    getDescriptor(property.getMethod().getReturnType()));
+            visitValue(ts, mapping, property, lazy);
             if (property.isPrimitive()) {
                 ts.visitMethodInsn(INVOKEVIRTUAL, I_STRING_BUILDER, "append",
                         "(" + getDescriptor(property.asPrimitive().getPrimitiveType()) + ")L" + I_STRING_BUILDER + ";", false);
@@ -839,17 +893,15 @@ public class ConfigMappingGenerator {
 
         for (int i = 0; i < properties.length; i++) {
             Property property = properties[i];
+            boolean lazy = isLazy(mapping, property);
             // unwrap Kotlin default methods
             if (property.isDefaultMethod()) {
                 property = property.asDefaultMethod().getDefaultProperty();
             }
 
-            String member = property.getMethod().getName();
-            Class<?> returnType = property.getMethod().getReturnType();
-
             hc.visitIntInsn(BIPUSH, i);
             hc.visitVarInsn(ALOAD, V_THIS);
-            hc.visitFieldInsn(GETFIELD, mapping.getClassInternalName(), member, getDescriptor(returnType));
+            visitValue(hc, mapping, property, lazy);
             if (property.isPrimitive()) {
                 PrimitiveProperty primitiveProperty = property.asPrimitive();
                 hc.visitMethodInsn(INVOKESTATIC, getInternalName(primitiveProperty.getBoxType()), "valueOf",
@@ -910,6 +962,23 @@ public class ConfigMappingGenerator {
         hc.visitEnd();
     }
 
+    /**
+     * Reads the value of a property, from the field, or from the accessor, if the value is converted lazily.
+     */
+    private static void visitValue(
+            final MethodVisitor mv,
+            final ConfigMappingInterface mapping,
+            final Property property,
+            final boolean lazy) {
+        String member = property.getMethod().getName();
+        String descriptor = getDescriptor(property.getMethod().getReturnType());
+        if (lazy) {
+            mv.visitMethodInsn(INVOKEVIRTUAL, mapping.getClassInternalName(), member, "()" + descriptor, false);
+        } else {
+            mv.visitFieldInsn(GETFIELD, mapping.getClassInternalName(), member, descriptor);
+        }
+    }
+
     private static void generateStaticInit(final ClassVisitor classVisitor, final ConfigMappingInterface mapping) {
         Map<String, Property> properties = ConfigMappingInterface.getProperties(mapping).get(mapping.getInterfaceType())
                 .get("");
@@ -1162,6 +1231,7 @@ public class ConfigMappingGenerator {
     private static final String D_ITERABLE = getDescriptor(Iterable.class);
     private static final String D_SECRET = getDescriptor(Secret.class);
     private static final String D_SUPPLIER = getDescriptor(java.util.function.Supplier.class);
+    private static final String D_LAZY_VALUE = getDescriptor(ConfigMappingContext.LazyValue.class);
 
     private enum PrimitiveMethodInvocation implements MethodInvocation {
         value(INVOKESTATIC, "(" + D_MAPPING_CONTEXT + "Z" + D_STRING + D_CLASS + D_CLASS + ")" + D_OBJECT),
@@ -1218,6 +1288,30 @@ public class ConfigMappingGenerator {
         }
     }
 
+    private enum LazyMethodInvocation implements MethodInvocation {
+        lazyValue(INVOKESTATIC, "(" + D_MAPPING_CONTEXT + "Z" + D_STRING + D_CLASS + D_CLASS + ")" + D_LAZY_VALUE),
+        lazyOptionalValue(INVOKESTATIC, lazyValue.desc),
+        ;
+
+        private final int opcode;
+        private final String desc;
+
+        LazyMethodInvocation(int opcode, String desc) {
+            this.opcode = opcode;
+            this.desc = desc;
+        }
+
+        @Override
+        public int opcode() {
+            return opcode;
+        }
+
+        @Override
+        public String desc() {
+            return desc;
+        }
+    }
+
     private enum MapMethodInvocation implements MethodInvocation {
         values(INVOKESTATIC,
                 "(" + D_MAPPING_CONTEXT + "Z" + D_STRING + D_CLASS + D_CLASS + "Z" + D_CLASS + D_CLASS + D_ITERABLE + D_STRING
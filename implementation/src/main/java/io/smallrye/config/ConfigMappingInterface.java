@@ -184,6 +184,11 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
         return isBeanStyleGetters() ? BeanStyleGetters.ENABLED : BeanStyleGetters.DISABLED;
     }
 
+    public boolean isLazyConversion() {
+        ConfigMapping configMapping = interfaceType.getAnnotation(ConfigMapping.class);
+        return configMapping != null && configMapping.lazyConversion();
+    }
+
     String getClassInternalName() {
         return className.replace('.', '/');
     }
@@ -3,10 +3,14 @@ package io.smallrye.config;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 
+import io.smallrye.config._private.ConfigMessages;
+
 /**
  * Exposes contextual information on the ConfigSource initialization via {@link ConfigSourceFactory}.
  */
@@ -23,6 +27,50 @@ public interface ConfigSourceContext {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Returns the value of a configuration property, converted to the specified type.
+     *
+     * @param name the property name
+     * @param type the property type
+     * @return the converted value of the property
+     * @param <T> the property type
+     * @throws NoSuchElementException if the property is not defined
+     * @throws IllegalArgumentException if the property cannot be converted to the specified type
+     */
+    default <T> T getValue(String name, Class<T> type) {
+        return getOptionalValue(name, type)
+                .orElseThrow(() -> new NoSuchElementException(ConfigMessages.msg.propertyNotFound(name)));
+    }
+
+    /**
+     * Returns the value of a configuration property, converted to the specified type, if the property is defined.
+     *
+     * @param name the property name
+     * @param type the property type
+     * @return the converted value of the property, or an empty {@link Optional} if the property is not defined
+     * @param <T> the property type
+     * @throws IllegalArgumentException if the property cannot be converted to the specified type
+     */
+    default <T> Optional<T> getOptionalValue(String name, Class<T> type) {
+        return new ConfigSourceContextConfig(this).getOptionalValue(name, type);
+    }
+
+    /**
+     * Returns an instance of a {@link ConfigMapping} populated with the values of this context. Names under the
+     * mapping prefix that are unknown to the mapping are not validated.
+     * <p>
+     * The default implementation creates a new configuration on each call. The contexts provided by
+     * {@link SmallRyeConfig} share a single configuration, with the requested mappings registered on demand.
+     *
+     * @param type the {@link ConfigMapping} type
+     * @return an instance of the {@link ConfigMapping}
+     * @param <T> the {@link ConfigMapping} type
+     * @throws ConfigValidationException if the values of this context cannot be mapped
+     */
+    default <T> T getConfigMapping(Class<T> type) {
+        return new ConfigSourceContextConfig(this).getConfigMapping(type);
+    }
+
     class ConfigSourceContextConfigSource implements ConfigSource {
         private final ConfigSourceContext context;
 
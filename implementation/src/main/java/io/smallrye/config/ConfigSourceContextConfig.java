@@ -0,0 +1,49 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_MAPPING_VALIDATE_UNKNOWN;
+
+import java.util.Optional;
+import java.util.Set;
+
+import io.smallrye.config.ConfigMappings.ConfigClass;
+
+/**
+ * A minimal {@link SmallRyeConfig} over a {@link ConfigSourceContext}, to provide typed values and
+ * {@link ConfigMapping} to {@link ConfigSourceFactory} implementations.
+ * <p>
+ * The {@link SmallRyeConfig} only contains the {@link ConfigSourceContext} as a source, without discovered sources,
+ * converters or interceptors, because the values of the {@link ConfigSourceContext} are already resolved by the
+ * parent configuration. Mappings are registered on demand, when first requested, and without validating unknown
+ * names, because the {@link ConfigSourceContext} exposes the entire configuration, including names under a mapping
+ * prefix that are meant for another consumer.
+ */
+final class ConfigSourceContextConfig {
+    private final SmallRyeConfig config;
+
+    ConfigSourceContextConfig(final ConfigSourceContext context) {
+        this.config = new SmallRyeConfigBuilder()
+                .withSources(new ConfigSourceContext.ConfigSourceContextConfigSource(context) {
+                    @Override
+                    public String getValue(final String propertyName) {
+                        // the parent configuration may enable validation, but the context is not the entire mapping
+                        return SMALLRYE_CONFIG_MAPPING_VALIDATE_UNKNOWN.equals(propertyName) ? null
+                                : super.getValue(propertyName);
+                    }
+                })
+                .withValidateUnknown(false)
+                .build();
+    }
+
+    <T> T getConfigMapping(final Class<T> type) {
+        synchronized (this) {
+            if (!config.getMappings().containsKey(type)) {
+                ConfigMappings.registerConfigClasses(config, Set.of(ConfigClass.configClass(type)), false);
+            }
+        }
+        return config.getConfigMapping(type);
+    }
+
+    <T> Optional<T> getOptionalValue(final String name, final Class<T> type) {
+        return config.getOptionalValue(name, type);
+    }
+}
@@ -56,6 +56,17 @@ public interface ConfigSourceInterceptor extends Serializable {
         return context.iterateNames();
     }
 
+    /**
+     * Reports if the interceptor has any effect in the interceptor chain. An inactive interceptor only proceeds to the
+     * next interceptor in the chain, for every name and for the names iteration, and is left out of the chain
+     * built by {@link SmallRyeConfig}. The state must not change once the interceptor is part of the chain.
+     *
+     * @return {@code true} if the interceptor has any effect, or {@code false} otherwise.
+     */
+    default boolean isActive() {
+        return true;
+    }
+
     ConfigSourceInterceptor EMPTY = new ConfigSourceInterceptor() {
         @Serial
         private static final long serialVersionUID = 5749001327530543433L;
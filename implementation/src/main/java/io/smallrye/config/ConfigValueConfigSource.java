@@ -9,6 +9,7 @@ import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -340,10 +341,31 @@ public interface ConfigValueConfigSource extends ConfigSource {
         private static final long serialVersionUID = 613423366086278005L;
         private final String configSourceName;
         private final int configSourceOrdinal;
+        private final Set<String> names;
 
         public ConfigValueProperties(final String configSourceName, final int configSourceOrdinal) {
             this.configSourceName = configSourceName;
             this.configSourceOrdinal = configSourceOrdinal;
+            this.names = null;
+        }
+
+        private ConfigValueProperties(final Set<String> names) {
+            this.configSourceName = null;
+            this.configSourceOrdinal = 0;
+            this.names = names;
+        }
+
+        /**
+         * Loads only the names of the properties, without converting the values.
+         *
+         * @param reader the properties
+         * @return the names of the properties
+         * @throws IOException if the properties cannot be read
+         */
+        static Set<String> loadNames(Reader reader) throws IOException {
+            Set<String> names = new HashSet<>();
+            new ConfigValueProperties(names).load(reader);
+            return names;
         }
 
         public synchronized void load(Reader reader) throws IOException {
@@ -401,6 +423,10 @@ public interface ConfigValueConfigSource extends ConfigSource {
                     valueStart++;
                 }
                 String key = loadConvert(lr.lineBuf, 0, keyLen, convtBuf);
+                if (names != null) {
+                    names.add(key);
+                    continue;
+                }
                 String value = loadConvert(lr.lineBuf, valueStart, limit - valueStart, convtBuf);
                 ConfigValue oldConfigValue = put(key, ConfigValue.builder()
                         .withName(key)
@@ -0,0 +1,231 @@
+package io.smallrye.config;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable {@link Map} of configuration names and {@link ConfigValue}, that stores the values of a single
+ * configuration source in parallel arrays.
+ * <p>
+ * Most of the {@link ConfigValue} of a configuration source only differ in the name, the value, and the line number.
+ * The table only stores these, in an open addressing hash table, and shares the configuration source name and ordinal
+ * between all the entries. The {@link ConfigValue} is created on the first lookup, and kept for the following ones. A
+ * {@link ConfigValue} with additional metadata, like a profile, a raw value different from the value, or problems, is
+ * stored as is.
+ */
+final class ConfigValueTable extends AbstractMap<String, ConfigValue> implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2196530151312394237L;
+
+    private final String configSourceName;
+    private final int configSourceOrdinal;
+
+    private final String[] names;
+    private final String[] values;
+    private final int[] lineNumbers;
+    private final ConfigValue[] configValues;
+    private final int size;
+
+    private transient volatile ConfigValue[] materialized;
+    private transient Set<String> keySet;
+    private transient Set<Entry<String, ConfigValue>> entrySet;
+
+    /**
+     * Creates a table with the {@link ConfigValue} of a configuration source.
+     *
+     * @param configSourceName the configuration source name
+     * @param configSourceOrdinal the configuration source ordinal, replacing the ordinal of each {@link ConfigValue}
+     * @param properties the configuration names and {@link ConfigValue}
+     */
+    ConfigValueTable(final String configSourceName, final int configSourceOrdinal, final Map<String, ConfigValue> properties) {
+        this.configSourceName = configSourceName;
+        this.configSourceOrdinal = configSourceOrdinal;
+
+        int capacity = Integer.highestOneBit(Math.max(properties.size() * 4 / 3, 1)) << 1;
+        this.names = new String[capacity];
+        this.values = new String[capacity];
+        this.lineNumbers = new int[capacity];
+        ConfigValue[] configValues = null;
+        for (Entry<String, ConfigValue> entry : properties.entrySet()) {
+            String name = entry.getKey();
+            ConfigValue configValue = entry.getValue();
+            int slot = slot(name);
+            names[slot] = name;
+            values[slot] = configValue.getValue();
+            lineNumbers[slot] = configValue.getLineNumber();
+            if (!isCompact(name, configValue)) {
+                if (configValues == null) {
+                    configValues = new ConfigValue[capacity];
+                }
+                configValues[slot] = configValue.from().withConfigSourceOrdinal(configSourceOrdinal).build();
+            }
+        }
+        this.configValues = configValues;
+        this.size = properties.size();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && names[slot((String) key)] != null;
+    }
+
+    @Override
+    public ConfigValue get(final Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int slot = slot((String) key);
+        return names[slot] != null ? configValue(slot) : null;
+    }
+
+    /**
+     * Returns the value of a name, without creating the {@link ConfigValue}.
+     *
+     * @param name the configuration name
+     * @return the value, or {@code null} if the name is not present
+     */
+    String getValue(final String name) {
+        if (name == null) {
+            return null;
+        }
+        int slot = slot(name);
+        return names[slot] != null ? values[slot] : null;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        if (keySet == null) {
+            keySet = new AbstractSet<>() {
+                @Override
+                public Iterator<String> iterator() {
+                    return new SlotIterator<>() {
+                        @Override
+                        String get(final int slot) {
+                            return names[slot];
+                        }
+                    };
+                }
+
+                @Override
+                public boolean contains(final Object o) {
+                    return containsKey(o);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return keySet;
+    }
+
+    @Override
+    public Set<Entry<String, ConfigValue>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, ConfigValue>> iterator() {
+                    return new SlotIterator<>() {
+                        @Override
+                        Entry<String, ConfigValue> get(final int slot) {
+                            return new SimpleImmutableEntry<>(names[slot], configValue(slot));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private ConfigValue configValue(final int slot) {
+        if (configValues != null && configValues[slot] != null) {
+            return configValues[slot];
+        }
+
+        ConfigValue[] materialized = this.materialized;
+        if (materialized == null) {
+            materialized = this.materialized = new ConfigValue[names.length];
+        }
+        ConfigValue configValue = materialized[slot];
+        if (configValue != null) {
+            return configValue;
+        }
+        // ConfigValue is immutable, so a racy publication is safe and at worst creates the same value twice
+        return materialized[slot] = ConfigValue.builder()
+                .withName(names[slot])
+                .withValue(values[slot])
+                .withRawValue(values[slot])
+                .withConfigSourceName(configSourceName)
+                .withConfigSourceOrdinal(configSourceOrdinal)
+                .withLineNumber(lineNumbers[slot])
+                .build();
+    }
+
+    /**
+     * Finds the slot of a name, or the empty slot where the name should be stored.
+     */
+    private int slot(final String name) {
+        int mask = names.length - 1;
+        int hash = name.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (names[slot] != null && !names[slot].equals(name)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private boolean isCompact(final String name, final ConfigValue configValue) {
+        return name.equals(configValue.getName())
+                && Objects.equals(configValue.getValue(), configValue.getRawValue())
+                && configValue.getProfile() == null
+                && Objects.equals(configSourceName, configValue.getConfigSourceName())
+                && configValue.getConfigSourcePosition() == 0
+                && !configValue.hasProblems();
+    }
+
+    private abstract class SlotIterator<T> implements Iterator<T> {
+        int next = advance(0);
+
+        abstract T get(int slot);
+
+        @Override
+        public boolean hasNext() {
+            return next < names.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T element = get(next);
+            next = advance(next + 1);
+            return element;
+        }
+
+        private int advance(int slot) {
+            while (slot < names.length && names[slot] == null) {
+                slot++;
+            }
+            return slot;
+        }
+    }
+}
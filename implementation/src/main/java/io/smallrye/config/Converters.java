@@ -21,10 +21,12 @@ import java.io.File;
 import java.io.ObjectStreamException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -40,6 +42,7 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Currency;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -222,7 +225,8 @@ public final class Converters {
      */
     @SuppressWarnings("unchecked")
     public static <T> Converter<T> getImplicitConverter(Class<? extends T> type) {
-        return (Converter<T>) ALL_CONVERTERS.getOrDefault(type, Implicit.getConverter(type));
+        Converter<?> converter = ALL_CONVERTERS.get(type);
+        return converter != null ? (Converter<T>) converter : Implicit.getConverter(type);
     }
 
     /**
@@ -1271,9 +1275,33 @@ public final class Converters {
     }
 
     static final class Implicit {
+        /**
+         * Implicit converters discovered per class, including negative results (represented by {@link #NONE}), so
+         * the reflective probing of {@code of}, {@code valueOf}, {@code parse} and constructors only happens once per
+         * class.
+         */
+        private static final ClassValue<Converter<?>> IMPLICIT_CONVERTERS = new ClassValue<>() {
+            @Override
+            protected Converter<?> computeValue(final Class<?> type) {
+                Converter<?> converter = discoverConverter(type);
+                return converter != null ? converter : NONE;
+            }
+        };
+
+        private static final Converter<?> NONE = value -> {
+            throw new UnsupportedOperationException();
+        };
+
+        private static final MethodType CONVERTER_TYPE = MethodType.methodType(Object.class, String.class);
 
         @SuppressWarnings("unchecked")
         static <T> Converter<T> getConverter(Class<? extends T> clazz) {
+            Converter<?> converter = IMPLICIT_CONVERTERS.get(clazz);
+            return converter != NONE ? (Converter<T>) converter : null;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private static <T> Converter<T> discoverConverter(Class<? extends T> clazz) {
             if (clazz.isEnum()) {
                 return new HyphenateEnumConverter(clazz);
             }
@@ -1307,12 +1335,15 @@ public final class Converters {
         private static <T> Converter<T> getConverterFromConstructor(Class<? extends T> clazz, Class<? super String> paramType) {
             try {
                 final Constructor<? extends T> declaredConstructor = SecuritySupport.getDeclaredConstructor(clazz, paramType);
-                if (!isAccessible(declaredConstructor)) {
+                if (!isPublic(declaredConstructor)) {
                     SecuritySupport.setAccessible(declaredConstructor, true);
                 }
-                return new ConstructorConverter<>(declaredConstructor);
+                final MethodHandle handle = lookup(declaredConstructor).unreflectConstructor(declaredConstructor);
+                return new ConstructorConverter<>(declaredConstructor, handle.asType(CONVERTER_TYPE));
             } catch (NoSuchMethodException e) {
                 return null;
+            } catch (IllegalAccessException e) {
+                throw ConfigMessages.msg.constructorConverterFailure(e);
             }
         }
 
@@ -1327,18 +1358,29 @@ public final class Converters {
                 if (!Modifier.isStatic(method.getModifiers())) {
                     return null;
                 }
-                if (!isAccessible(method)) {
+                if (!isPublic(method)) {
                     SecuritySupport.setAccessible(method, true);
                 }
-                return new StaticMethodConverter<>(clazz, method);
+                final MethodHandle handle = lookup(method).unreflect(method);
+                return new StaticMethodConverter<>(clazz, method, handle.asType(CONVERTER_TYPE));
             } catch (NoSuchMethodException e) {
                 return null;
+            } catch (IllegalAccessException e) {
+                throw ConfigMessages.msg.staticMethodConverterFailure(e);
             }
         }
 
-        private static boolean isAccessible(Executable e) {
-            return Modifier.isPublic(e.getModifiers()) && Modifier.isPublic(e.getDeclaringClass().getModifiers()) ||
-                    e.isAccessible();
+        private static boolean isPublic(Executable e) {
+            return Modifier.isPublic(e.getModifiers()) && Modifier.isPublic(e.getDeclaringClass().getModifiers());
+        }
+
+        /**
+         * Public members are unreflected with {@link MethodHandles#publicLookup()}, which does not require the declaring
+         * module to be readable. Other members are made accessible with {@code setAccessible}, which skips the access
+         * checks of the lookup.
+         */
+        private static MethodHandles.Lookup lookup(Executable e) {
+            return isPublic(e) ? MethodHandles.publicLookup() : MethodHandles.lookup();
         }
 
         static final class StaticMethodConverter<T> implements Converter<T>, Serializable {
@@ -1346,12 +1388,14 @@ public final class Converters {
             private static final long serialVersionUID = 3350265927359848883L;
 
             private final Class<? extends T> clazz;
-            private final Method method;
+            private final transient Method method;
+            private final transient MethodHandle handle;
 
-            StaticMethodConverter(Class<? extends T> clazz, Method method) {
+            StaticMethodConverter(Class<? extends T> clazz, Method method, MethodHandle handle) {
                 assert clazz == method.getReturnType();
                 this.clazz = clazz;
                 this.method = method;
+                this.handle = handle;
             }
 
             @Override
@@ -1360,8 +1404,8 @@ public final class Converters {
                     return null;
                 }
                 try {
-                    return clazz.cast(method.invoke(null, value));
-                } catch (IllegalAccessException | InvocationTargetException e) {
+                    return clazz.cast((Object) handle.invokeExact(value));
+                } catch (Throwable e) {
                     throw ConfigMessages.msg.staticMethodConverterFailure(e);
                 }
             }
@@ -1398,20 +1442,23 @@ public final class Converters {
             @Serial
             private static final long serialVersionUID = 3350265927359848883L;
 
-            private final Constructor<? extends T> ctor;
+            private final transient Constructor<? extends T> ctor;
+            private final transient MethodHandle handle;
 
-            public ConstructorConverter(final Constructor<? extends T> ctor) {
+            ConstructorConverter(final Constructor<? extends T> ctor, final MethodHandle handle) {
                 this.ctor = ctor;
+                this.handle = handle;
             }
 
             @Override
+            @SuppressWarnings("unchecked")
             public T convert(String value) {
                 if (value.isEmpty()) {
                     return null;
                 }
                 try {
-                    return ctor.newInstance(value);
-                } catch (IllegalAccessException | InvocationTargetException | InstantiationException e) {
+                    return (T) (Object) handle.invokeExact(value);
+                } catch (Throwable e) {
                     throw ConfigMessages.msg.constructorConverterFailure(e);
                 }
             }
@@ -1447,16 +1494,38 @@ public final class Converters {
 
             private final Class<E> enumType;
             private final Map<String, E> values = new HashMap<>();
+            /**
+             * Accepted spellings of each constant (the constant name, the hyphenated name, and their upper and lower
+             * case variants), matched against the raw value before falling back to hyphenate it. Each spelling is
+             * only registered if hyphenating it resolves to the same constant, so both lookups always agree. Not
+             * serialized, and built again on deserialization.
+             */
+            private final transient Map<String, E> spellings = new HashMap<>();
 
             public HyphenateEnumConverter(final Class<E> enumType) {
                 this.enumType = enumType;
                 for (E enumValue : this.enumType.getEnumConstants()) {
                     values.put(hyphenate(enumValue.name()), enumValue);
                 }
+                for (Map.Entry<String, E> entry : values.entrySet()) {
+                    String name = entry.getValue().name();
+                    String hyphenated = entry.getKey();
+                    for (String spelling : new String[] { name, hyphenated, name.toLowerCase(Locale.ROOT),
+                            hyphenated.toUpperCase(Locale.ROOT) }) {
+                        if (values.get(hyphenate(spelling)) == entry.getValue()) {
+                            spellings.put(spelling, entry.getValue());
+                        }
+                    }
+                }
             }
 
             @Override
             public E convert(final String value) throws IllegalArgumentException, NullPointerException {
+                final E spelling = spellings.get(value);
+                if (spelling != null) {
+                    return spelling;
+                }
+
                 final String trimmedValue = value.trim();
                 if (trimmedValue.isEmpty()) {
                     return null;
@@ -1472,6 +1541,11 @@ public final class Converters {
                 throw ConfigMessages.msg.cannotConvertEnum(value, enumType, String.join(",", values.keySet()));
             }
 
+            @Serial
+            Object readResolve() throws ObjectStreamException {
+                return new HyphenateEnumConverter<>(enumType);
+            }
+
             private static String hyphenate(String value) {
                 return StringUtil.skewer(value);
             }
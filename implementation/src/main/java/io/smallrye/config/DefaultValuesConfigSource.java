@@ -50,7 +50,7 @@ public final class DefaultValuesConfigSource extends AbstractConfigSource {
 
     // We need a way to add defaults after SmallRyeConfig initializes, due to MP @ConfigProperties
     void addDefaults(final Defaults defaults) {
-        this.defaults.add(defaults.getProperties());
+        this.defaults.add(defaults);
     }
 
     private static String validateName(final String name) {
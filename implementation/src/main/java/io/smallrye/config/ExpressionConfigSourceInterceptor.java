@@ -7,18 +7,27 @@ import static io.smallrye.common.expression.Expression.Flag.NO_TRIM;
 import static io.smallrye.config._private.ConfigMessages.msg;
 
 import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import jakarta.annotation.Priority;
 
 import io.smallrye.common.expression.Expression;
 import io.smallrye.common.expression.ResolveContext;
 import io.smallrye.config.ConfigValidationException.Problem;
+import io.smallrye.config._private.ConfigLogging;
 import io.smallrye.config._private.ConfigMessages;
 
 @Priority(Priorities.LIBRARY + 300)
@@ -27,9 +36,12 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
     private static final long serialVersionUID = -539336551011916218L;
 
     private static final int MAX_DEPTH = 32;
+    private static final int MAX_EXPRESSIONS = 4096;
 
     private final boolean enabled;
     private final Map<String, SecretKeysHandler> handlers = new HashMap<>();
+    private transient volatile Map<String, Expression> expressions;
+    private transient volatile Map<String, BatchSecrets> batchSecrets;
 
     public ExpressionConfigSourceInterceptor() {
         this(true, Collections.emptyList());
@@ -44,11 +56,19 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
 
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
-        return getValue(context, name, 1);
+        return getValue(context, name, null);
     }
 
-    private ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name, final int depth) {
-        if (depth >= MAX_DEPTH) {
+    @Override
+    public boolean isActive() {
+        return enabled;
+    }
+
+    private ConfigValue getValue(
+            final ConfigSourceInterceptorContext context,
+            final String name,
+            final Resolution resolution) {
+        if (resolution != null && resolution.depth() >= MAX_DEPTH) {
             throw msg.expressionExpansionTooDepth(name);
         }
 
@@ -67,38 +87,60 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
             return configValue;
         }
 
-        ConfigValue.ConfigValueBuilder valueBuilder = configValue.from();
-        Expression expression = Expression.compile(escapeDollarIfExists(configValue.getValue()), LENIENT_SYNTAX, NO_TRIM,
-                NO_SMART_BRACES, DOUBLE_COLON);
-        String expanded = expression.evaluate(new BiConsumer<ResolveContext<RuntimeException>, StringBuilder>() {
-            @Override
-            public void accept(ResolveContext<RuntimeException> resolveContext, StringBuilder stringBuilder) {
-                String key = resolveContext.getKey();
-
-                // Requires a handler lookup
-                int index = key.indexOf("::");
-                if (index != -1) {
-                    stringBuilder.append(getHandler(key.substring(0, index), context).decode(key.substring(index + 2)));
-                    return;
-                }
+        Resolution current = resolution != null ? resolution : new Resolution();
+        current.enter(name);
+        try {
+            ConfigValue.ConfigValueBuilder valueBuilder = configValue.from();
+            String expanded = getExpression(configValue.getValue()).evaluate(
+                    new BiConsumer<ResolveContext<RuntimeException>, StringBuilder>() {
+                        @Override
+                        public void accept(ResolveContext<RuntimeException> resolveContext, StringBuilder stringBuilder) {
+                            String key = resolveContext.getKey();
 
-                // Expression lookup
-                ConfigValue resolve = getValue(context, key, depth + 1);
-                if (resolve != null) {
-                    if (!resolve.hasProblems()) {
-                        stringBuilder.append(resolve.getValue());
-                    } else {
-                        valueBuilder.withProblems(resolve.getProblems());
-                    }
-                } else if (resolveContext.hasDefault()) {
-                    resolveContext.expandDefault();
-                } else {
-                    valueBuilder.addProblem(new Problem(msg.expandingElementNotFound(key, configValue.getName())));
-                }
-            }
-        });
+                            // Requires a handler lookup
+                            int index = key.indexOf("::");
+                            if (index != -1) {
+                                stringBuilder.append(decode(key.substring(0, index), key.substring(index + 2), context));
+                                return;
+                            }
 
-        return valueBuilder.withValue(expanded).build();
+                            // Expression lookup
+                            ConfigValue resolve = current.resolve(key, context);
+                            if (resolve != null) {
+                                if (!resolve.hasProblems()) {
+                                    stringBuilder.append(resolve.getValue());
+                                } else {
+                                    valueBuilder.withProblems(resolve.getProblems());
+                                }
+                            } else if (resolveContext.hasDefault()) {
+                                resolveContext.expandDefault();
+                            } else {
+                                valueBuilder.addProblem(new Problem(msg.expandingElementNotFound(key, configValue.getName())));
+                            }
+                        }
+                    });
+
+            return valueBuilder.withValue(expanded).build();
+        } finally {
+            current.exit();
+        }
+    }
+
+    private Expression getExpression(final String value) {
+        Map<String, Expression> expressions = this.expressions;
+        if (expressions == null) {
+            expressions = this.expressions = new ConcurrentHashMap<>();
+        }
+        Expression expression = expressions.get(value);
+        if (expression == null) {
+            expression = Expression.compile(escapeDollarIfExists(value), LENIENT_SYNTAX, NO_TRIM, NO_SMART_BRACES,
+                    DOUBLE_COLON);
+            // raw values are usually bounded, but do not grow indefinitely with values from dynamic sources
+            if (expressions.size() < MAX_EXPRESSIONS) {
+                expressions.put(value, expression);
+            }
+        }
+        return expression;
     }
 
     /**
@@ -124,6 +166,120 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
         return value;
     }
 
+    private String decode(final String handlerName, final String secret, final ConfigSourceInterceptorContext context) {
+        SecretKeysHandler handler = getHandler(handlerName, context);
+        if (handler instanceof BatchSecretKeysHandler) {
+            return getBatchSecrets(handlerName, (BatchSecretKeysHandler) handler).decode(secret);
+        }
+        return handler.decode(secret);
+    }
+
+    private BatchSecrets getBatchSecrets(final String handlerName, final BatchSecretKeysHandler handler) {
+        Map<String, BatchSecrets> batchSecrets = this.batchSecrets;
+        if (batchSecrets == null) {
+            synchronized (this) {
+                batchSecrets = this.batchSecrets;
+                if (batchSecrets == null) {
+                    batchSecrets = this.batchSecrets = new ConcurrentHashMap<>();
+                }
+            }
+        }
+        return batchSecrets.computeIfAbsent(handlerName, name -> new BatchSecrets(handler));
+    }
+
+    /**
+     * Decodes all the secrets of the {@link BatchSecretKeysHandler} referenced in the configuration values, with a
+     * single call for each handler. Called once the configuration is built, with the context that follows this
+     * interceptor in the chain.
+     *
+     * @param context the context that follows this interceptor in the chain
+     */
+    void prefetchSecrets(final ConfigSourceInterceptorContext context) {
+        if (!enabled) {
+            return;
+        }
+
+        Map<String, BatchSecretKeysHandler> batchHandlers = getBatchHandlers(context);
+        if (batchHandlers.isEmpty()) {
+            return;
+        }
+
+        List<String> references = new ArrayList<>(batchHandlers.size());
+        for (String handlerName : batchHandlers.keySet()) {
+            references.add("${" + handlerName + "::");
+        }
+
+        Map<String, Set<String>> secrets = SecretKeys.doUnlocked(new Supplier<Map<String, Set<String>>>() {
+            @Override
+            public Map<String, Set<String>> get() {
+                Map<String, Set<String>> secrets = new HashMap<>();
+                Iterator<String> names = context.iterateNames();
+                while (names.hasNext()) {
+                    ConfigValue configValue = context.proceed(names.next());
+                    if (configValue == null || configValue.getValue() == null
+                            || !hasReference(configValue.getValue(), references)) {
+                        continue;
+                    }
+                    getExpression(configValue.getValue()).evaluate(
+                            new BiConsumer<ResolveContext<RuntimeException>, StringBuilder>() {
+                                @Override
+                                public void accept(ResolveContext<RuntimeException> resolveContext, StringBuilder builder) {
+                                    String key = resolveContext.getKey();
+                                    int index = key.indexOf("::");
+                                    if (index != -1) {
+                                        String handlerName = key.substring(0, index);
+                                        if (batchHandlers.containsKey(handlerName)) {
+                                            secrets.computeIfAbsent(handlerName, k -> new HashSet<>())
+                                                    .add(key.substring(index + 2));
+                                        }
+                                    } else if (resolveContext.hasDefault()) {
+                                        resolveContext.expandDefault();
+                                    }
+                                }
+                            });
+                }
+                return secrets;
+            }
+        });
+
+        for (Map.Entry<String, Set<String>> handlerSecrets : secrets.entrySet()) {
+            BatchSecretKeysHandler handler = batchHandlers.get(handlerSecrets.getKey());
+            try {
+                getBatchSecrets(handlerSecrets.getKey(), handler).load(handlerSecrets.getValue());
+            } catch (RuntimeException e) {
+                // each secret is decoded again on its first lookup
+                ConfigLogging.log.batchSecretsFailure(e, handler.getName());
+            }
+        }
+    }
+
+    private Map<String, BatchSecretKeysHandler> getBatchHandlers(final ConfigSourceInterceptorContext context) {
+        Map<String, BatchSecretKeysHandler> batchHandlers = new HashMap<>();
+        for (String handlerName : handlers.keySet()) {
+            SecretKeysHandler handler;
+            try {
+                // the handler of a factory is only known when it is initialized
+                handler = getHandler(handlerName, context);
+            } catch (RuntimeException e) {
+                // the handler fails again on the lookup of a value that requires it
+                continue;
+            }
+            if (handler instanceof BatchSecretKeysHandler batchHandler) {
+                batchHandlers.put(handlerName, batchHandler);
+            }
+        }
+        return batchHandlers;
+    }
+
+    private static boolean hasReference(final String value, final List<String> references) {
+        for (String reference : references) {
+            if (value.contains(reference)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private SecretKeysHandler getHandler(final String handlerName, final ConfigSourceInterceptorContext context) {
         SecretKeysHandler handler = handlers.get(handlerName);
         if (handler == null) {
@@ -145,4 +301,116 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
         }
         return handler;
     }
+
+    /**
+     * The decoded secrets of a {@link BatchSecretKeysHandler}, kept for the {@link BatchSecretKeysHandler#getTtl()}.
+     * An expired secret is still returned, while all the expired secrets are decoded again asynchronously, in a
+     * single call.
+     */
+    private static final class BatchSecrets {
+        private final BatchSecretKeysHandler handler;
+        private final long ttl;
+        private final Map<String, Secret> secrets = new ConcurrentHashMap<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        BatchSecrets(final BatchSecretKeysHandler handler) {
+            this.handler = handler;
+            this.ttl = handler.getTtl().toNanos();
+        }
+
+        String decode(final String secret) {
+            Secret decoded = secrets.get(secret);
+            if (decoded == null) {
+                load(List.of(secret));
+                decoded = secrets.get(secret);
+                if (decoded == null) {
+                    throw ConfigMessages.msg.secretNotFound(secret, handler.getName());
+                }
+            } else if (System.nanoTime() - decoded.expiresAt() > 0) {
+                refresh();
+            }
+            return decoded.value();
+        }
+
+        void load(final Collection<String> names) {
+            Map<String, String> decoded = handler.decodeAll(names);
+            long expiresAt = System.nanoTime() + ttl;
+            for (Map.Entry<String, String> secret : decoded.entrySet()) {
+                if (secret.getValue() != null) {
+                    secrets.put(secret.getKey(), new Secret(secret.getValue(), expiresAt));
+                }
+            }
+        }
+
+        private void refresh() {
+            if (!refreshing.compareAndSet(false, true)) {
+                return;
+            }
+            ForkJoinPool.commonPool().execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        long now = System.nanoTime();
+                        List<String> expired = new ArrayList<>();
+                        for (Map.Entry<String, Secret> secret : secrets.entrySet()) {
+                            if (now - secret.getValue().expiresAt() > 0) {
+                                expired.add(secret.getKey());
+                            }
+                        }
+                        if (!expired.isEmpty()) {
+                            load(expired);
+                        }
+                    } catch (RuntimeException e) {
+                        // keep the expired secrets, and try again on the next lookup
+                        ConfigLogging.log.batchSecretsFailure(e, handler.getName());
+                    } finally {
+                        refreshing.set(false);
+                    }
+                }
+            });
+        }
+
+        private record Secret(String value, long expiresAt) {
+        }
+    }
+
+    /**
+     * The state of the expansion of a single lookup. The names being expanded are tracked, to detect a cycle as soon as
+     * a name refers back to a name being expanded, and the resolved references are kept, so a name referenced multiple
+     * times in the expansion is only resolved once.
+     * <p>
+     * The resolved references are only kept for the duration of the lookup, because the values of the sources may
+     * change between lookups.
+     */
+    private final class Resolution {
+        private final List<String> expanding = new ArrayList<>();
+        private final Map<String, ConfigValue> resolved = new HashMap<>();
+
+        int depth() {
+            return expanding.size();
+        }
+
+        void enter(final String name) {
+            int index = expanding.indexOf(name);
+            if (index != -1) {
+                List<String> cycle = new ArrayList<>(expanding.subList(index, expanding.size()));
+                cycle.add(name);
+                throw msg.expressionExpansionCycle(expanding.get(0), String.join(" -> ", cycle));
+            }
+            expanding.add(name);
+        }
+
+        void exit() {
+            expanding.remove(expanding.size() - 1);
+        }
+
+        ConfigValue resolve(final String name, final ConfigSourceInterceptorContext context) {
+            if (resolved.containsKey(name)) {
+                return resolved.get(name);
+            }
+            ConfigValue configValue = getValue(context, name, this);
+            resolved.put(name, configValue);
+            return configValue;
+        }
+    }
 }
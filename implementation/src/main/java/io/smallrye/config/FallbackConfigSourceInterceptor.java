@@ -21,6 +21,10 @@ public class FallbackConfigSourceInterceptor extends AbstractMappingConfigSource
         super(mappings);
     }
 
+    public FallbackConfigSourceInterceptor(final Map<String, String> mappings, final Map<String, String> prefixMappings) {
+        super(mappings, prefixMappings);
+    }
+
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
         ConfigValue configValue = context.proceed(name);
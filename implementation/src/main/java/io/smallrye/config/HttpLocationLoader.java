@@ -0,0 +1,510 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_LOCATIONS_HTTP_CACHE_DIR;
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_LOCATIONS_HTTP_REFRESH_INTERVAL;
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_LOCATIONS_HTTP_TIMEOUT;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.config._private.ConfigLogging;
+import io.smallrye.config._private.ConfigMessages;
+
+/**
+ * Loads {@code http} and {@code https} config locations with a {@link HttpClient} shared by the loaders with the same
+ * timeout.
+ * <p>
+ * Resources are fetched asynchronously, so multiple locations, or the profile variants of a location, are requested
+ * concurrently. Every request has a timeout, set with {@link SmallRyeConfig#SMALLRYE_CONFIG_LOCATIONS_HTTP_TIMEOUT}.
+ * <p>
+ * If {@link SmallRyeConfig#SMALLRYE_CONFIG_LOCATIONS_HTTP_CACHE_DIR} is set, the content of each resource is stored
+ * in the cache directory, together with its {@code ETag} and {@code Last-Modified} headers. The cached entry is used
+ * to issue conditional requests and as a fallback if the server cannot be reached.
+ * <p>
+ * If {@link SmallRyeConfig#SMALLRYE_CONFIG_LOCATIONS_HTTP_REFRESH_INTERVAL} is set, the loaded {@link ConfigSource}s
+ * are periodically refreshed in the background, and the new content replaces the previous one when the resource
+ * changes.
+ * <p>
+ * The {@code java.net.http} module is optional. All the uses of {@link HttpClient} are kept in {@link Client}, which is
+ * only loaded if the module is {@link #AVAILABLE}.
+ */
+final class HttpLocationLoader {
+    /**
+     * If the {@code java.net.http} module is available. Otherwise, the http config locations are read from the
+     * {@link URL} stream, without the features of this loader.
+     */
+    static final boolean AVAILABLE = ModuleLayer.boot().findModule("java.net.http").isPresent();
+    static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    static final HttpLocationLoader DEFAULT = new HttpLocationLoader(null, DEFAULT_TIMEOUT, null);
+
+    private static volatile ScheduledExecutorService refresher;
+
+    private final Path cacheDir;
+    private final Duration timeout;
+    private final Duration refreshInterval;
+
+    HttpLocationLoader(final Path cacheDir, final Duration timeout, final Duration refreshInterval) {
+        this.cacheDir = cacheDir;
+        this.timeout = timeout;
+        this.refreshInterval = refreshInterval;
+    }
+
+    static HttpLocationLoader of(final ConfigSourceContext context) {
+        String cacheDir = context.getValue(SMALLRYE_CONFIG_LOCATIONS_HTTP_CACHE_DIR).getValue();
+        String timeout = context.getValue(SMALLRYE_CONFIG_LOCATIONS_HTTP_TIMEOUT).getValue();
+        String refreshInterval = context.getValue(SMALLRYE_CONFIG_LOCATIONS_HTTP_REFRESH_INTERVAL).getValue();
+        if (cacheDir == null && timeout == null && refreshInterval == null) {
+            return DEFAULT;
+        }
+        return new HttpLocationLoader(
+                cacheDir != null ? Paths.get(cacheDir) : null,
+                timeout != null ? duration(SMALLRYE_CONFIG_LOCATIONS_HTTP_TIMEOUT, timeout) : DEFAULT_TIMEOUT,
+                refreshInterval != null ? duration(SMALLRYE_CONFIG_LOCATIONS_HTTP_REFRESH_INTERVAL, refreshInterval) : null);
+    }
+
+    private static Duration duration(final String name, final String value) {
+        try {
+            return Duration.parse(value);
+        } catch (DateTimeParseException e) {
+            throw ConfigMessages.msg.converterException(e, name, value, e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Starts the fetch of all the {@link URI}s concurrently.
+     *
+     * @param uris the {@link URI}s to fetch
+     * @return the pending {@link Resource} of each {@link URI}, in the same order of the {@link URI}s
+     */
+    Map<URI, CompletableFuture<Resource>> fetchAll(final List<URI> uris) {
+        Map<URI, CompletableFuture<Resource>> resources = new LinkedHashMap<>();
+        for (URI uri : uris) {
+            resources.computeIfAbsent(uri, this::fetch);
+        }
+        return resources;
+    }
+
+    CompletableFuture<Resource> fetch(final URI uri) {
+        return fetch(uri, readCache(uri));
+    }
+
+    CompletableFuture<Resource> fetch(final URI uri, final Resource cached) {
+        CompletableFuture<Response> response;
+        try {
+            response = Client.send(uri, timeout, cached);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new IOException(e));
+        }
+
+        return response.handle((httpResponse, failure) -> {
+            if (failure == null) {
+                int status = httpResponse.status();
+                if (status == 304 && cached != null) {
+                    return cached;
+                }
+                if (status >= 200 && status < 300) {
+                    Resource resource = new Resource(uri, httpResponse.body(), httpResponse.etag(),
+                            httpResponse.lastModified());
+                    writeCache(resource);
+                    return resource;
+                }
+                if (status == 404 || status == 410) {
+                    throw new CompletionException(new FileNotFoundException(uri.toString()));
+                }
+                failure = new IOException("Server returned HTTP response code: " + status + " for URL: " + uri);
+            }
+
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause()
+                    : failure;
+            if (cached != null) {
+                ConfigLogging.log.httpLocationFallbackToCache(cause, uri.toString());
+                return cached;
+            }
+            throw new CompletionException(cause);
+        });
+    }
+
+    /**
+     * Waits for a pending {@link Resource}, unwrapping the failure of the fetch.
+     */
+    static Resource join(final CompletableFuture<Resource> resource) throws IOException {
+        try {
+            return resource.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Wraps the {@link ConfigSource} loaded from a {@link Resource} to refresh its content in the background, if a
+     * refresh interval is configured.
+     */
+    ConfigSource refreshing(final Resource resource, final ConfigSource configSource, final SourceLoader loader) {
+        if (refreshInterval == null || refreshInterval.isZero() || refreshInterval.isNegative()) {
+            return configSource;
+        }
+
+        RefreshingConfigSource refreshing = new RefreshingConfigSource(this, resource, configSource, loader);
+        Refresh refresh = new Refresh(refreshing);
+        long interval = refreshInterval.toMillis();
+        refresh.future = refresher().scheduleWithFixedDelay(refresh, interval, interval, TimeUnit.MILLISECONDS);
+        return refreshing;
+    }
+
+    private Resource readCache(final URI uri) {
+        if (cacheDir == null) {
+            return null;
+        }
+
+        Path content = cacheDir.resolve(cacheKey(uri));
+        Path metadata = cacheDir.resolve(cacheKey(uri) + ".properties");
+        if (!Files.isRegularFile(content) || !Files.isRegularFile(metadata)) {
+            return null;
+        }
+
+        try (Reader reader = Files.newBufferedReader(metadata, StandardCharsets.UTF_8)) {
+            Properties properties = new Properties();
+            properties.load(reader);
+            if (!uri.toString().equals(properties.getProperty("uri"))) {
+                return null;
+            }
+            return new Resource(uri, Files.readAllBytes(content), properties.getProperty("etag"),
+                    properties.getProperty("last-modified"));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeCache(final Resource resource) {
+        if (cacheDir == null) {
+            return;
+        }
+
+        String key = cacheKey(resource.uri);
+        try {
+            Files.createDirectories(cacheDir);
+            Properties properties = new Properties();
+            properties.setProperty("uri", resource.uri.toString());
+            if (resource.etag != null) {
+                properties.setProperty("etag", resource.etag);
+            }
+            if (resource.lastModified != null) {
+                properties.setProperty("last-modified", resource.lastModified);
+            }
+
+            Path content = Files.createTempFile(cacheDir, key, ".tmp");
+            Files.write(content, resource.content);
+            move(content, cacheDir.resolve(key));
+
+            Path metadata = Files.createTempFile(cacheDir, key, ".tmp");
+            try (Writer writer = Files.newBufferedWriter(metadata, StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+            move(metadata, cacheDir.resolve(key + ".properties"));
+        } catch (IOException e) {
+            ConfigLogging.log.httpLocationCacheFailure(e, resource.uri.toString(), cacheDir.toString());
+        }
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String cacheKey(final URI uri) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(uri.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ScheduledExecutorService refresher() {
+        ScheduledExecutorService refresher = HttpLocationLoader.refresher;
+        if (refresher == null) {
+            synchronized (HttpLocationLoader.class) {
+                refresher = HttpLocationLoader.refresher;
+                if (refresher == null) {
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                        Thread thread = new Thread(runnable, "smallrye-config-http-refresh");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor.setRemoveOnCancelPolicy(true);
+                    refresher = executor;
+                    HttpLocationLoader.refresher = refresher;
+                }
+            }
+        }
+        return refresher;
+    }
+
+    /**
+     * The requests sent with a {@link HttpClient}. This is the only class that uses the {@code java.net.http} module.
+     */
+    private static final class Client {
+        private static final Map<Duration, HttpClient> CLIENTS = new ConcurrentHashMap<>();
+
+        static CompletableFuture<Response> send(final URI uri, final Duration timeout, final Resource cached) {
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri).timeout(timeout).GET();
+            if (cached != null) {
+                if (cached.etag != null) {
+                    request.header("If-None-Match", cached.etag);
+                }
+                if (cached.lastModified != null) {
+                    request.header("If-Modified-Since", cached.lastModified);
+                }
+            }
+            return client(timeout).sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                    .thenApply(response -> new Response(response.statusCode(), response.body(),
+                            response.headers().firstValue("ETag").orElse(null),
+                            response.headers().firstValue("Last-Modified").orElse(null)));
+        }
+
+        private static HttpClient client(final Duration timeout) {
+            // the connect timeout is set in the client, so loaders with the same timeout share the same client
+            return CLIENTS.computeIfAbsent(timeout, new Function<Duration, HttpClient>() {
+                @Override
+                public HttpClient apply(final Duration timeout) {
+                    return HttpClient.newBuilder()
+                            .followRedirects(HttpClient.Redirect.NORMAL)
+                            .connectTimeout(timeout)
+                            .build();
+                }
+            });
+        }
+    }
+
+    /**
+     * The status, the content and the validators of a http response.
+     */
+    private record Response(int status, byte[] body, String etag, String lastModified) {
+    }
+
+    /**
+     * Loads a {@link ConfigSource} from the {@link URL} of a fetched {@link Resource}.
+     */
+    @FunctionalInterface
+    interface SourceLoader {
+        ConfigSource load(URL url) throws IOException;
+    }
+
+    /**
+     * The content of an http resource, with the validators required to issue conditional requests.
+     */
+    static final class Resource {
+        private final URI uri;
+        private final byte[] content;
+        private final String etag;
+        private final String lastModified;
+
+        Resource(final URI uri, final byte[] content, final String etag, final String lastModified) {
+            this.uri = uri;
+            this.content = content;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * A {@link URL} with the same representation of the resource {@link URI}, that reads the fetched content
+         * instead of connecting to the server again. Config sources that use the {@link URL} as the source name keep
+         * the same name.
+         */
+        @SuppressWarnings("deprecation")
+        URL toURL() {
+            try {
+                return new URL(null, uri.toString(), new URLStreamHandler() {
+                    @Override
+                    protected URLConnection openConnection(final URL url) {
+                        return new URLConnection(url) {
+                            @Override
+                            public void connect() {
+                            }
+
+                            @Override
+                            public InputStream getInputStream() {
+                                return new ByteArrayInputStream(content);
+                            }
+                        };
+                    }
+                });
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link ConfigSource} that delegates to the latest {@link ConfigSource} loaded from an http resource. The
+     * ordinal is the ordinal of the first {@link ConfigSource}, because the sources are already sorted when the
+     * resource is refreshed.
+     */
+    static final class RefreshingConfigSource implements ConfigValueConfigSource {
+        private final HttpLocationLoader loader;
+        private final SourceLoader sourceLoader;
+        private final int ordinal;
+        private volatile Resource resource;
+        private volatile ConfigSource delegate;
+
+        RefreshingConfigSource(final HttpLocationLoader loader, final Resource resource, final ConfigSource delegate,
+                final SourceLoader sourceLoader) {
+            this.loader = loader;
+            this.sourceLoader = sourceLoader;
+            this.ordinal = delegate.getOrdinal();
+            this.resource = resource;
+            this.delegate = delegate;
+        }
+
+        void refresh() {
+            Resource current = this.resource;
+            try {
+                Resource refreshed = join(loader.fetch(current.uri, current));
+                if (refreshed != current) {
+                    this.delegate = sourceLoader.load(refreshed.toURL());
+                    this.resource = refreshed;
+                }
+            } catch (IOException | RuntimeException e) {
+                ConfigLogging.log.httpLocationRefreshFailure(e, current.uri.toString());
+            }
+        }
+
+        @Override
+        public ConfigValue getConfigValue(final String propertyName) {
+            ConfigSource delegate = this.delegate;
+            if (delegate instanceof ConfigValueConfigSource configValueConfigSource) {
+                ConfigValue configValue = configValueConfigSource.getConfigValue(propertyName);
+                return configValue != null && configValue.getConfigSourceOrdinal() != ordinal
+                        ? configValue.withConfigSourceOrdinal(ordinal)
+                        : configValue;
+            }
+            String value = delegate.getValue(propertyName);
+            return value != null ? configValue(delegate, propertyName, value) : null;
+        }
+
+        @Override
+        public Map<String, ConfigValue> getConfigValueProperties() {
+            ConfigSource delegate = this.delegate;
+            if (delegate instanceof ConfigValueConfigSource configValueConfigSource) {
+                return configValueConfigSource.getConfigValueProperties();
+            }
+            Map<String, ConfigValue> properties = new HashMap<>();
+            for (Map.Entry<String, String> property : delegate.getProperties().entrySet()) {
+                properties.put(property.getKey(), configValue(delegate, property.getKey(), property.getValue()));
+            }
+            return properties;
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return delegate.getPropertyNames();
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return delegate.getProperties();
+        }
+
+        @Override
+        public String getValue(final String propertyName) {
+            return delegate.getValue(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        private ConfigValue configValue(final ConfigSource delegate, final String name, final String value) {
+            return ConfigValue.builder()
+                    .withName(name)
+                    .withValue(value)
+                    .withRawValue(value)
+                    .withConfigSourceName(delegate.getName())
+                    .withConfigSourceOrdinal(ordinal)
+                    .build();
+        }
+    }
+
+    /**
+     * The periodic refresh task. It only holds the {@link RefreshingConfigSource} weakly, and cancels itself once
+     * the source is no longer used.
+     */
+    private static final class Refresh implements Runnable {
+        private final WeakReference<RefreshingConfigSource> configSource;
+        private volatile ScheduledFuture<?> future;
+
+        Refresh(final RefreshingConfigSource configSource) {
+            this.configSource = new WeakReference<>(configSource);
+        }
+
+        @Override
+        public void run() {
+            RefreshingConfigSource configSource = this.configSource.get();
+            if (configSource == null) {
+                ScheduledFuture<?> future = this.future;
+                if (future != null) {
+                    future.cancel(false);
+                }
+                return;
+            }
+            configSource.refresh();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.smallrye.config;
+
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.io.Serial;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.config._private.ConfigMessages;
+import io.smallrye.config.common.AbstractConfigSource;
+
+/**
+ * A {@link ConfigSource} that registers the name and ordinal of a source, and loads the source only when it is first
+ * required.
+ * <p>
+ * The name and ordinal of the source are known up front, so the source can be sorted with the other sources without
+ * being loaded. Optionally, the property names of the source may also be known up front, from a cheap scan of the
+ * source content. In this case, a lookup of a name not in the source, or an iteration of the names, does not load the
+ * source, and the source is only loaded by the first lookup of one of its names. Otherwise, the source is loaded by
+ * the first lookup or iteration of the names.
+ * <p>
+ * The source is loaded once, even with concurrent lookups. A failure to load the source is thrown to the lookup
+ * that loads the source.
+ */
+public class LazyConfigSource extends AbstractConfigSource implements ConfigValueConfigSource {
+    @Serial
+    private static final long serialVersionUID = -4185016436802947658L;
+
+    private final Set<String> names;
+    private transient Loader loader;
+    private volatile ConfigSource source;
+
+    /**
+     * Creates a {@link LazyConfigSource} with the property names known up front.
+     *
+     * @param name the name of the source, which must be the same as the name of the loaded source
+     * @param ordinal the ordinal of the source, which must be the same as the ordinal of the loaded source
+     * @param names the property names of the source, or {@code null} if the names are not known up front
+     * @param loader the {@link Loader} of the source
+     */
+    public LazyConfigSource(final String name, final int ordinal, final Set<String> names, final Loader loader) {
+        super(name, ordinal);
+        this.names = names != null ? Collections.unmodifiableSet(names) : null;
+        this.loader = loader;
+    }
+
+    /**
+     * Creates a {@link LazyConfigSource}, that loads the source on the first lookup or iteration of the names.
+     *
+     * @param name the name of the source, which must be the same as the name of the loaded source
+     * @param ordinal the ordinal of the source, which must be the same as the ordinal of the loaded source
+     * @param loader the {@link Loader} of the source
+     */
+    public LazyConfigSource(final String name, final int ordinal, final Loader loader) {
+        this(name, ordinal, null, loader);
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        if (names != null) {
+            return names;
+        }
+        return getConfigSource().getPropertyNames();
+    }
+
+    @Override
+    public ConfigValue getConfigValue(final String propertyName) {
+        if (names != null && !names.contains(propertyName)) {
+            return null;
+        }
+
+        ConfigSource source = getConfigSource();
+        if (source instanceof ConfigValueConfigSource) {
+            return ((ConfigValueConfigSource) source).getConfigValue(propertyName);
+        }
+        String value = source.getValue(propertyName);
+        if (value != null) {
+            return ConfigValue.builder()
+                    .withName(propertyName)
+                    .withValue(value)
+                    .withRawValue(value)
+                    .withConfigSourceName(getName())
+                    .withConfigSourceOrdinal(getOrdinal())
+                    .build();
+        }
+        return null;
+    }
+
+    @Override
+    public Map<String, ConfigValue> getConfigValueProperties() {
+        ConfigSource source = getConfigSource();
+        if (source instanceof ConfigValueConfigSource) {
+            return ((ConfigValueConfigSource) source).getConfigValueProperties();
+        }
+        Map<String, ConfigValue> properties = new HashMap<>();
+        for (String propertyName : source.getPropertyNames()) {
+            ConfigValue configValue = getConfigValue(propertyName);
+            if (configValue != null) {
+                properties.put(propertyName, configValue);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Checks if the source was loaded.
+     *
+     * @return {@code true} if the source was loaded, or {@code false} otherwise
+     */
+    public boolean isLoaded() {
+        return source != null;
+    }
+
+    /**
+     * Returns the loaded source, and loads the source if required.
+     *
+     * @return the loaded {@link ConfigSource}
+     * @throws IllegalArgumentException if the source cannot be loaded
+     */
+    public ConfigSource getConfigSource() {
+        ConfigSource source = this.source;
+        if (source == null) {
+            synchronized (this) {
+                source = this.source;
+                if (source == null) {
+                    try {
+                        source = loader.load();
+                    } catch (IOException e) {
+                        throw ConfigMessages.msg.failedToLoadResource(e, getName());
+                    }
+                    this.source = source;
+                    // release anything the loader holds to load the source
+                    this.loader = null;
+                }
+            }
+        }
+        return source;
+    }
+
+    @Serial
+    private Object writeReplace() throws ObjectStreamException {
+        return getConfigSource();
+    }
+
+    /**
+     * Loads the source of a {@link LazyConfigSource}.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Loads the source.
+         *
+         * @return the loaded {@link ConfigSource}
+         * @throws IOException if the source cannot be loaded
+         */
+        ConfigSource load() throws IOException;
+    }
+}
@@ -51,4 +51,9 @@ public class LoggingConfigSourceInterceptor implements ConfigSourceInterceptor {
         }
         return secret;
     }
+
+    @Override
+    public boolean isActive() {
+        return enabled;
+    }
 }
@@ -1,7 +1,6 @@
 package io.smallrye.config;
 
 import java.io.Serial;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -37,10 +36,7 @@ public abstract class MapBackedConfigValueConfigSource extends AbstractConfigSou
      */
     public MapBackedConfigValueConfigSource(String name, Map<String, ConfigValue> propertyMap, int defaultOrdinal) {
         super(name, ConfigSourceUtil.getOrdinalFromMap(new ConfigValueMapView(propertyMap), defaultOrdinal));
-        this.properties = new HashMap<>();
-        for (Map.Entry<String, ConfigValue> entry : propertyMap.entrySet()) {
-            this.properties.put(entry.getKey(), entry.getValue().from().withConfigSourceOrdinal(getOrdinal()).build());
-        }
+        this.properties = new ConfigValueTable(name, getOrdinal(), propertyMap);
     }
 
     @Override
@@ -48,6 +44,14 @@ public abstract class MapBackedConfigValueConfigSource extends AbstractConfigSou
         return properties.keySet();
     }
 
+    @Override
+    public String getValue(final String propertyName) {
+        if (properties instanceof ConfigValueTable table) {
+            return table.getValue(propertyName);
+        }
+        return ConfigValueConfigSource.super.getValue(propertyName);
+    }
+
     @Override
     public ConfigValue getConfigValue(final String propertyName) {
         return properties.get(propertyName);
@@ -0,0 +1,105 @@
+package io.smallrye.config;
+
+import java.io.Serial;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Fuses consecutive {@link RelocateConfigSourceInterceptor} and {@link FallbackConfigSourceInterceptor}, created with
+ * a copy of the mappings of names, into a single interceptor of the chain.
+ * <p>
+ * A {@link RelocateConfigSourceInterceptor} or a {@link FallbackConfigSourceInterceptor} only proceeds with the name,
+ * if the name is not in its mappings. The interceptor keeps the names and prefixes of all the mappings in a single
+ * {@link NameMappingTable}, and proceeds directly with names that are not mapped by any of the interceptors. A mapped
+ * name is resolved by each interceptor in the order of the original chain, skipping the interceptors that do not map
+ * the name.
+ */
+final class MappingsConfigSourceInterceptor implements ConfigSourceInterceptor {
+    @Serial
+    private static final long serialVersionUID = -4384925376802393493L;
+
+    private final AbstractMappingConfigSourceInterceptor[] interceptors;
+    private final NameMappingTable[] tables;
+    private final NameMappingTable names;
+
+    /**
+     * Creates the interceptor from the interceptors to fuse.
+     *
+     * @param interceptors the interceptors to fuse, created with a copy of the mappings, from the first to be called in
+     *        the chain to the last
+     */
+    MappingsConfigSourceInterceptor(final List<AbstractMappingConfigSourceInterceptor> interceptors) {
+        this.interceptors = interceptors.toArray(new AbstractMappingConfigSourceInterceptor[0]);
+        this.tables = new NameMappingTable[interceptors.size()];
+        for (int i = 0; i < this.interceptors.length; i++) {
+            tables[i] = this.interceptors[i].getTable();
+        }
+        this.names = NameMappingTable.union(tables);
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+        if (!names.isMapped(name)) {
+            return context.proceed(name);
+        }
+        return new MappingsContext(context, 0).proceed(name);
+    }
+
+    @Override
+    public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
+        return new MappingsContext(context, 0).iterateNames();
+    }
+
+    /**
+     * Checks if an interceptor can be fused.
+     *
+     * @param interceptor the interceptor to check
+     * @return {@code true} if the interceptor is a {@link RelocateConfigSourceInterceptor} or a
+     *         {@link FallbackConfigSourceInterceptor} created with a copy of the mappings, or {@code false} otherwise
+     */
+    static boolean isFusible(final ConfigSourceInterceptor interceptor) {
+        return (interceptor.getClass() == RelocateConfigSourceInterceptor.class
+                || interceptor.getClass() == FallbackConfigSourceInterceptor.class)
+                && ((AbstractMappingConfigSourceInterceptor) interceptor).getTable() != null;
+    }
+
+    /**
+     * The chain between the fused interceptors, starting at a fused interceptor and ending at the interceptor that
+     * follows the {@link MappingsConfigSourceInterceptor}.
+     */
+    private final class MappingsContext implements ConfigSourceInterceptorContext {
+        @Serial
+        private static final long serialVersionUID = 2722400516522451371L;
+
+        private final ConfigSourceInterceptorContext context;
+        private final int index;
+
+        MappingsContext(final ConfigSourceInterceptorContext context, final int index) {
+            this.context = context;
+            this.index = index;
+        }
+
+        @Override
+        public ConfigValue proceed(final String name) {
+            for (int i = index; i < interceptors.length; i++) {
+                if (tables[i].isMapped(name)) {
+                    return interceptors[i].getValue(new MappingsContext(context, i + 1), name);
+                }
+            }
+            return context.proceed(name);
+        }
+
+        @Override
+        public ConfigValue restart(final String name) {
+            return context.restart(name);
+        }
+
+        @Override
+        public Iterator<String> iterateNames() {
+            if (index < interceptors.length) {
+                return interceptors[index].iterateNames(new MappingsContext(context, index + 1));
+            }
+            return context.iterateNames();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.smallrye.config;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * A table of configuration names mappings, with exact names and prefixes, used by
+ * {@link AbstractMappingConfigSourceInterceptor}.
+ * <p>
+ * An exact name maps the name. A prefix maps all the names that start with the prefix, followed by a segment
+ * separator, or that are equal to the prefix, by replacing the prefix. An exact name has precedence over a prefix,
+ * and a longer prefix has precedence over a shorter prefix. Prefixes are only looked up with the lengths of the
+ * prefixes in the table, so a name not mapped by the table requires a single lookup for exact names, and one lookup for
+ * each distinct prefix length that fits the name.
+ */
+final class NameMappingTable implements Function<String, String>, Serializable {
+    @Serial
+    private static final long serialVersionUID = 3206312582366829107L;
+
+    private final Map<String, String> names;
+    private final Map<String, String> prefixes;
+    private final int[] prefixLengths;
+
+    /**
+     * Creates a table with exact names and prefixes.
+     *
+     * @param names the exact names mappings
+     * @param prefixes the prefixes mappings
+     */
+    NameMappingTable(final Map<String, String> names, final Map<String, String> prefixes) {
+        this.names = names;
+        this.prefixes = prefixes;
+        TreeSet<Integer> lengths = new TreeSet<>(Collections.reverseOrder());
+        for (String prefix : prefixes.keySet()) {
+            lengths.add(prefix.length());
+        }
+        this.prefixLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Creates a table with the exact names of a {@link Map}. The table is a view of the {@link Map}, so it maps the
+     * names added to the {@link Map} later.
+     *
+     * @param names the exact names mappings
+     */
+    NameMappingTable(final Map<String, String> names) {
+        this(names, Collections.emptyMap());
+    }
+
+    @Override
+    public String apply(final String name) {
+        String mapped = names.get(name);
+        if (mapped != null) {
+            return mapped;
+        }
+        for (int length : prefixLengths) {
+            if (name.length() == length) {
+                mapped = prefixes.get(name);
+                if (mapped != null) {
+                    return mapped;
+                }
+            } else if (name.length() > length && name.charAt(length) == '.') {
+                mapped = prefixes.get(name.substring(0, length));
+                if (mapped != null) {
+                    return mapped + name.substring(length);
+                }
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Checks if the table has a mapping for a name. A name without a mapping is mapped to itself.
+     *
+     * @param name the configuration name
+     * @return {@code true} if the table has a mapping for the name, or {@code false} otherwise
+     */
+    boolean isMapped(final String name) {
+        if (names.containsKey(name)) {
+            return true;
+        }
+        for (int length : prefixLengths) {
+            if (name.length() == length) {
+                if (prefixes.containsKey(name)) {
+                    return true;
+                }
+            } else if (name.length() > length && name.charAt(length) == '.') {
+                if (prefixes.containsKey(name.substring(0, length))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    boolean isEmpty() {
+        return names.isEmpty() && prefixes.isEmpty();
+    }
+
+    /**
+     * Creates a table with the mappings of all the tables, to check if any of the tables has a mapping for a name, with
+     * {@link #isMapped(String)}. The mapped names of the resulting table are not meaningful.
+     *
+     * @param tables the tables
+     * @return a table that maps the names mapped by any of the tables
+     */
+    static NameMappingTable union(final NameMappingTable... tables) {
+        Map<String, String> names = new HashMap<>();
+        Map<String, String> prefixes = new HashMap<>();
+        for (NameMappingTable table : tables) {
+            names.putAll(table.names);
+            prefixes.putAll(table.prefixes);
+        }
+        return new NameMappingTable(names, prefixes);
+    }
+}
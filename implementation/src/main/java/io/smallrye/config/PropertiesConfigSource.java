@@ -22,12 +22,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serial;
+import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.net.URL;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.function.Consumer;
 
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
 import io.smallrye.common.classloader.ClassPathUtils;
 import io.smallrye.config.common.utils.ConfigSourceUtil;
 
@@ -50,7 +54,11 @@ public class PropertiesConfigSource extends MapBackedConfigValueConfigSource {
     }
 
     private PropertiesConfigSource(URL url, String name, int defaultOrdinal) throws IOException {
-        super(name, urlToConfigValueMap(url, name, defaultOrdinal), defaultOrdinal);
+        this(name, defaultOrdinal, urlToConfigValueMap(url, name, defaultOrdinal));
+    }
+
+    private PropertiesConfigSource(String name, int defaultOrdinal, Map<String, ConfigValue> properties) {
+        super(name, properties, defaultOrdinal);
     }
 
     public PropertiesConfigSource(Map<String, String> properties, String name) {
@@ -75,6 +83,57 @@ public class PropertiesConfigSource extends MapBackedConfigValueConfigSource {
         this(ConfigSourceUtil.propertiesToMap(properties), name, defaultOrdinal);
     }
 
+    /**
+     * Creates a {@link ConfigSource} of the properties in an {@link URL}, that only loads the properties on the first
+     * lookup of one of its names. The {@link URL} is read once, and the names of the properties are read up front,
+     * without converting the values, so looking up a name not in the properties, or iterating the names, does not load
+     * the properties. The properties are loaded from the content read up front, so later changes to the {@link URL}
+     * are not visible. If the properties set the {@link ConfigSource#CONFIG_ORDINAL}, the properties are loaded
+     * immediately, because the ordinal of the source depends on the properties.
+     *
+     * @param url the {@link URL} of the properties
+     * @param defaultOrdinal the ordinal of the source, if the properties do not set the ordinal
+     * @return a {@link LazyConfigSource} of the properties, or a {@link PropertiesConfigSource} if the properties set
+     *         the ordinal
+     * @throws IOException if the properties cannot be read
+     */
+    public static ConfigSource lazy(URL url, int defaultOrdinal) throws IOException {
+        String name = String.format(NAME, url.toString());
+        String content = urlToString(url);
+        Set<String> names = ConfigValueProperties.loadNames(new StringReader(content));
+        if (names.contains(CONFIG_ORDINAL)) {
+            return new PropertiesConfigSource(name, defaultOrdinal, stringToConfigValueMap(content, name, defaultOrdinal));
+        }
+        return new LazyConfigSource(name, defaultOrdinal, names, new LazyConfigSource.Loader() {
+            @Override
+            public ConfigSource load() throws IOException {
+                return new PropertiesConfigSource(name, defaultOrdinal, stringToConfigValueMap(content, name, defaultOrdinal));
+            }
+        });
+    }
+
+    private static String urlToString(URL locationOfProperties) throws IOException {
+        StringBuilder content = new StringBuilder();
+        ClassPathUtils.consumeStream(locationOfProperties, new Consumer<>() {
+            @Override
+            public void accept(InputStream inputStream) {
+                try {
+                    content.append(new String(inputStream.readAllBytes(), UTF_8));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+        return content.toString();
+    }
+
+    private static Map<String, ConfigValue> stringToConfigValueMap(String content, String name, int ordinal)
+            throws IOException {
+        ConfigValueProperties properties = new ConfigValueProperties(name, ordinal);
+        properties.load(new StringReader(content));
+        return properties;
+    }
+
     public static Map<String, ConfigValue> urlToConfigValueMap(URL locationOfProperties, String name, int ordinal)
             throws IOException {
         ConfigValueProperties properties = new ConfigValueProperties(name, ordinal);
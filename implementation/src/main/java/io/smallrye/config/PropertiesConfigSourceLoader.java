@@ -26,7 +26,7 @@ public class PropertiesConfigSourceLoader extends AbstractLocationConfigSourceLo
 
     @Override
     protected ConfigSource loadConfigSource(final URL url, final int ordinal) throws IOException {
-        return new PropertiesConfigSource(url, ordinal);
+        return PropertiesConfigSource.lazy(url, ordinal);
     }
 
     public static List<ConfigSource> inClassPath(final String path, final int ordinal, final ClassLoader loader) {
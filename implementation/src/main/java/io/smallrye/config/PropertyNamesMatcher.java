@@ -162,6 +162,31 @@ public class PropertyNamesMatcher<T> {
         }
     }
 
+    protected void add(final PropertyNamesMatcher<T> matcher) {
+        add(matcher.properties);
+        add(matcher.wildcards, new StringBuilder());
+    }
+
+    private void add(final Node<T> node, final StringBuilder name) {
+        int length = name.length();
+        if (node.greedy) {
+            add(length == 0 ? "**" : name + ".**", node.value);
+        }
+        if (node.terminal) {
+            add(name.toString(), node.value);
+        }
+        if (node.children != null) {
+            for (Node<T> child : node.children) {
+                add(child, (length == 0 ? name : name.append('.')).append(child.path));
+                name.setLength(length);
+            }
+        }
+        if (node.wildcard != null) {
+            add(node.wildcard, (length == 0 ? name : name.append('.')).append('*'));
+            name.setLength(length);
+        }
+    }
+
     protected void add(final String name, final T value) {
         if (name.indexOf('*') == -1) {
             properties.putIfAbsent(name, value);
@@ -21,6 +21,10 @@ public class RelocateConfigSourceInterceptor extends AbstractMappingConfigSource
         super(mappings);
     }
 
+    public RelocateConfigSourceInterceptor(final Map<String, String> mappings, final Map<String, String> prefixMappings) {
+        super(mappings, prefixMappings);
+    }
+
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
         String map = getMapping().apply(name);
@@ -1,7 +1,9 @@
 package io.smallrye.config;
 
 import java.io.Serial;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.annotation.Priority;
 
@@ -14,6 +16,9 @@ import io.smallrye.config._private.ConfigMessages;
  * To avoid having to recalculate the list of property names, the filter of secret keys is applied in
  * {@code SmallRyeConfig.ConfigSources.PropertyNames}, so this interceptor does not implement
  * {@link io.smallrye.config.ConfigSourceInterceptor#iterateNames(ConfigSourceInterceptorContext)}.
+ * <p>
+ * The classification of a name as a Secret Key is cached, so the check for a name that was already classified, either
+ * in a previous lookup or when the property names are collected, does not require matching the name again.
  *
  * @see SecretKeys
  */
@@ -22,7 +27,10 @@ public class SecretKeysConfigSourceInterceptor implements ConfigSourceIntercepto
     @Serial
     private static final long serialVersionUID = 7291982039729980590L;
 
+    private static final int MAX_CLASSIFIED = 16384;
+
     private final PropertyNamesMatcher<?> secrets;
+    private final Map<String, Boolean> classified = new ConcurrentHashMap<>();
 
     public SecretKeysConfigSourceInterceptor(final PropertyNamesMatcher<?> secrets) {
         this.secrets = secrets;
@@ -38,10 +46,40 @@ public class SecretKeysConfigSourceInterceptor implements ConfigSourceIntercepto
 
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
-        // separate empty check to avoid PropertyName alloc
-        if (SecretKeys.isLocked() && !secrets.isEmpty() && secrets.matches(PropertyName.unprofiled(name).getName())) {
+        if (SecretKeys.isLocked() && isSecret(name)) {
             throw ConfigMessages.msg.notAllowed(name);
         }
         return context.proceed(name);
     }
+
+    PropertyNamesMatcher<?> getSecrets() {
+        return secrets;
+    }
+
+    /**
+     * Checks if a name is a Secret Key.
+     *
+     * @param name the configuration name, with or without a profile
+     * @return {@code true} if the name is a Secret Key, or {@code false} otherwise
+     */
+    boolean isSecret(final String name) {
+        // separate empty check to avoid PropertyName alloc
+        if (secrets.isEmpty()) {
+            return false;
+        }
+        Boolean secret = classified.get(name);
+        if (secret == null) {
+            secret = secrets.matches(PropertyName.unprofiled(name).getName());
+            // names looked up are usually bounded, but do not grow indefinitely with arbitrary lookups
+            if (classified.size() < MAX_CLASSIFIED) {
+                classified.put(name, secret);
+            }
+        }
+        return secret;
+    }
+
+    @Override
+    public boolean isActive() {
+        return !secrets.isEmpty();
+    }
 }
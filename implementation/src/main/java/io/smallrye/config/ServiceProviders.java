@@ -0,0 +1,185 @@
+package io.smallrye.config;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import jakarta.annotation.Priority;
+
+/**
+ * A cache of the service providers discovered with the {@link ServiceLoader} in each {@link ClassLoader}, shared by
+ * all the {@link SmallRyeConfigBuilder}.
+ * <p>
+ * Each {@link ServiceLoader} lookup scans the {@code META-INF/services} resources of the whole class path. The cache
+ * keeps the {@link ServiceLoader.Provider} of each service, and each lookup instantiates new providers from them, so
+ * stateful providers are never shared between {@link SmallRyeConfig} instances.
+ * <p>
+ * A {@link ServiceLoader.Provider} keeps the {@link ClassLoader} that defines it reachable. To not keep a
+ * {@link ClassLoader} reachable from the cache, the providers are attached to the provider type with the deepest
+ * {@link ClassLoader}, and are discarded with it. The service only keeps the {@link ClassLoader} used for the lookup
+ * and the provider type weakly. The providers are cached if all of them are defined by the {@link ClassLoader} used
+ * for the lookup, or by one of its parents, which covers flat class paths and the deployments of application servers.
+ * Providers defined in a {@link ClassLoader} outside that hierarchy are discovered on every lookup. Use
+ * {@link SmallRyeConfigBuilder#clearDiscoveredServices(ClassLoader)} to discard the providers of a
+ * {@link ClassLoader} eagerly.
+ * <p>
+ * The {@link Priority} of each provider type is also cached.
+ */
+final class ServiceProviders {
+    private static final Set<Class<?>> SERVICES = ConcurrentHashMap.newKeySet();
+    /**
+     * The provider type where the providers of a service for each {@link ClassLoader} are attached.
+     */
+    private static final ClassValue<Map<ClassLoader, WeakReference<Class<?>>>> ANCHORS = new ClassValue<>() {
+        @Override
+        protected Map<ClassLoader, WeakReference<Class<?>>> computeValue(final Class<?> service) {
+            SERVICES.add(service);
+            return Collections.synchronizedMap(new WeakHashMap<>());
+        }
+    };
+    /**
+     * The providers attached to a provider type, by {@link ClassLoader} and service.
+     */
+    private static final ClassValue<Map<ClassLoader, Map<Class<?>, List<Provider<?>>>>> PROVIDERS = new ClassValue<>() {
+        @Override
+        protected Map<ClassLoader, Map<Class<?>, List<Provider<?>>>> computeValue(final Class<?> type) {
+            return Collections.synchronizedMap(new WeakHashMap<>());
+        }
+    };
+    private static final ClassValue<OptionalInt> PRIORITIES = new ClassValue<>() {
+        @Override
+        protected OptionalInt computeValue(final Class<?> type) {
+            Priority priority = type.getAnnotation(Priority.class);
+            return priority != null ? OptionalInt.of(priority.value()) : OptionalInt.empty();
+        }
+    };
+
+    private ServiceProviders() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Loads new instances of all the providers of a service, in the same order of {@link ServiceLoader}.
+     *
+     * @param service the service type
+     * @param classLoader the {@link ClassLoader} to discover the providers
+     * @param <S> the service type
+     * @return a list with a new instance of each provider
+     */
+    static <S> List<S> load(final Class<S> service, final ClassLoader classLoader) {
+        List<Provider<?>> providers = providers(service, classLoader);
+        List<S> instances = new ArrayList<>(providers.size());
+        for (Provider<?> provider : providers) {
+            instances.add(service.cast(provider.get()));
+        }
+        return instances;
+    }
+
+    /**
+     * Loads a new instance of the first provider of a service.
+     *
+     * @param service the service type
+     * @param classLoader the {@link ClassLoader} to discover the providers
+     * @param <S> the service type
+     * @return a new instance of the first provider, or {@code null} if the service has no providers
+     */
+    static <S> S loadFirst(final Class<S> service, final ClassLoader classLoader) {
+        List<Provider<?>> providers = providers(service, classLoader);
+        return providers.isEmpty() ? null : service.cast(providers.get(0).get());
+    }
+
+    /**
+     * The value of the {@link Priority} annotation of a type, without looking into the superclasses.
+     *
+     * @param type the provider type
+     * @return the priority, or an empty {@link OptionalInt} if the type is not annotated
+     */
+    static OptionalInt priority(final Class<?> type) {
+        return PRIORITIES.get(type);
+    }
+
+    static void clear(final ClassLoader classLoader) {
+        ClassLoader key = classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+        for (Class<?> service : SERVICES) {
+            ANCHORS.get(service).remove(key);
+        }
+    }
+
+    private static List<Provider<?>> providers(final Class<?> service, final ClassLoader classLoader) {
+        ClassLoader key = classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+        Map<ClassLoader, WeakReference<Class<?>>> anchors = ANCHORS.get(service);
+        WeakReference<Class<?>> anchorReference = anchors.get(key);
+        Class<?> anchor = anchorReference != null ? anchorReference.get() : null;
+        if (anchor != null) {
+            Map<Class<?>, List<Provider<?>>> services = PROVIDERS.get(anchor).get(key);
+            List<Provider<?>> providers = services != null ? services.get(service) : null;
+            if (providers != null) {
+                return providers;
+            }
+        }
+
+        List<Provider<?>> providers = List.copyOf(ServiceLoader.load(service, key).stream().toList());
+        anchor = anchor(providers, key);
+        if (anchor != null) {
+            PROVIDERS.get(anchor).computeIfAbsent(key, new Function<>() {
+                @Override
+                public Map<Class<?>, List<Provider<?>>> apply(final ClassLoader classLoader) {
+                    return new ConcurrentHashMap<>();
+                }
+            }).putIfAbsent(service, providers);
+            anchors.put(key, new WeakReference<>(anchor));
+        }
+        return providers;
+    }
+
+    /**
+     * Finds the provider type with the deepest {@link ClassLoader}. The providers are only reachable from this type,
+     * so they never keep the {@link ClassLoader} used to discover them reachable, because it is the same
+     * {@link ClassLoader} or a child.
+     *
+     * @return the provider type to attach the providers, or {@code null} if the providers cannot be cached
+     */
+    private static Class<?> anchor(final List<Provider<?>> providers, final ClassLoader classLoader) {
+        Class<?> anchor = null;
+        for (Provider<?> provider : providers) {
+            Class<?> type = provider.type();
+            if (anchor == null || isParent(anchor.getClassLoader(), type.getClassLoader())) {
+                anchor = type;
+            } else if (!isParent(type.getClassLoader(), anchor.getClassLoader())) {
+                return null;
+            }
+        }
+        if (anchor == null) {
+            // without providers, nothing is kept reachable
+            return ServiceProviders.class;
+        }
+        // a provider of a ClassLoader outside the hierarchy could keep the ClassLoader of the lookup reachable
+        if (isParent(anchor.getClassLoader(), classLoader)
+                || isParent(anchor.getClassLoader(), ServiceProviders.class.getClassLoader())) {
+            return anchor;
+        }
+        return null;
+    }
+
+    private static boolean isParent(final ClassLoader parent, final ClassLoader classLoader) {
+        if (parent == null) {
+            // the bootstrap ClassLoader
+            return true;
+        }
+        for (ClassLoader current = classLoader; current != null; current = current.getParent()) {
+            if (current == parent) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
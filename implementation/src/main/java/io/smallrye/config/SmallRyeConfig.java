@@ -37,17 +37,24 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
@@ -55,6 +62,7 @@ import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
 import org.eclipse.microprofile.config.spi.Converter;
 
+import io.smallrye.config.ConfigMappings.ConfigClass;
 import io.smallrye.config.SmallRyeConfigBuilder.InterceptorWithPriority;
 import io.smallrye.config._private.ConfigLogging;
 import io.smallrye.config._private.ConfigMessages;
@@ -91,6 +99,22 @@ public class SmallRyeConfig implements Config, Serializable {
      * multiple locations separated by a comma and each must represent a valid {@code java.net.URI}.
      */
     public static final String SMALLRYE_CONFIG_LOCATIONS = "smallrye.config.locations";
+    /**
+     * Configuration name to set the timeout of each request to load an {@code http} config location. The
+     * configuration value must be a {@code java.time.Duration} in the ISO-8601 format.
+     */
+    public static final String SMALLRYE_CONFIG_LOCATIONS_HTTP_TIMEOUT = "smallrye.config.locations.http.timeout";
+    /**
+     * Configuration name to set the directory to cache the content of {@code http} config locations. The cached
+     * content is used for conditional requests, and as a fallback if the location cannot be reached.
+     */
+    public static final String SMALLRYE_CONFIG_LOCATIONS_HTTP_CACHE_DIR = "smallrye.config.locations.http.cache-dir";
+    /**
+     * Configuration name to set the interval to refresh the content of {@code http} config locations in the
+     * background. The configuration value must be a {@code java.time.Duration} in the ISO-8601 format. The content is
+     * not refreshed by default.
+     */
+    public static final String SMALLRYE_CONFIG_LOCATIONS_HTTP_REFRESH_INTERVAL = "smallrye.config.locations.http.refresh-interval";
     /**
      * Configuration name to validate that a {@link ConfigMapping} maps every available configuration name contained
      * in the mapping prefix. The configuration value must be a {@code boolean}.
@@ -111,18 +135,36 @@ public class SmallRyeConfig implements Config, Serializable {
     @Serial
     private static final long serialVersionUID = 8138651532357898263L;
 
-    private final ConfigSources configSources;
+    private volatile Generation generation;
     private final Map<Type, Converter<?>> converters;
     private final Map<Type, Converter<Optional<?>>> optionalConverters = new ConcurrentHashMap<>();
 
     private final ConfigValidator configValidator;
-    private final Map<Class<?>, Map<String, Object>> mappings;
+    private final SmallRyeConfigBuilder builder;
+    private final ConfigChangeListeners listeners;
 
     SmallRyeConfig(SmallRyeConfigBuilder builder) {
-        this.configSources = new ConfigSources(builder);
+        this.generation = new Generation(0, new ConfigSources(builder));
+        ConfigEvents.BuildPhase phase = ConfigEvents.beginBuildPhase("converters");
         this.converters = buildConverters(builder);
+        phase.end(converters.size());
         this.configValidator = builder.getValidator();
-        this.mappings = new ConcurrentHashMap<>(buildMappings(builder));
+        this.builder = builder.isReloadable() ? builder : null;
+        this.listeners = builder.isReloadable() ? new ConfigChangeListeners(builder.getChangeExecutor()) : null;
+        this.generation.mappings.putAll(buildMappings(builder));
+    }
+
+    /**
+     * Creates a configuration with the converters of another configuration, to build the next {@link Generation} of a
+     * reloadable configuration, or a layered configuration. The new sources and mappings are only visible to the new
+     * configuration, until the {@link Generation} is swapped.
+     */
+    private SmallRyeConfig(SmallRyeConfig config, long generation, ConfigSources configSources) {
+        this.generation = new Generation(generation, configSources);
+        this.converters = config.converters;
+        this.configValidator = config.configValidator;
+        this.builder = null;
+        this.listeners = null;
     }
 
     private Map<Type, Converter<?>> buildConverters(final SmallRyeConfigBuilder builder) {
@@ -147,23 +189,258 @@ public class SmallRyeConfig implements Config, Serializable {
         return converters;
     }
 
+    /**
+     * Reloads a configuration built with {@link SmallRyeConfigBuilder#withReloadable(boolean)}, using the
+     * {@link ForkJoinPool#commonPool()} to build the new generation.
+     *
+     * @return a {@link CompletableFuture} that completes when the new {@link #getGeneration() generation} of the
+     *         configuration is visible, or exceptionally if the new generation could not be built
+     * @see #reload(Executor)
+     */
+    public CompletableFuture<Void> reload() {
+        return reload(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reloads a configuration built with {@link SmallRyeConfigBuilder#withReloadable(boolean)}.
+     * <p>
+     * The reload builds a new generation of the configuration in the {@link Executor}, with the same
+     * {@link SmallRyeConfigBuilder} used to build this configuration: sources are initialized again, including the
+     * sources provided by a {@link ConfigSourceFactory}, environment variables are matched with the new names, and
+     * every {@link ConfigMapping} is mapped again. Readers keep using the current generation, without any locking,
+     * until the new generation is complete and replaces it in a single step, so a lookup or a {@link ConfigMapping}
+     * never observes a mix of old and new values. If the new generation fails to build, for instance, due to a
+     * {@link ConfigValidationException}, the current generation is kept.
+     * <p>
+     * {@link ConfigSource} instances registered directly in the {@link SmallRyeConfigBuilder} are shared between
+     * generations.
+     *
+     * @param executor the {@link Executor} to build the new generation
+     * @return a {@link CompletableFuture} that completes when the new {@link #getGeneration() generation} of the
+     *         configuration is visible, or exceptionally if the new generation could not be built
+     * @throws IllegalStateException if the configuration is not reloadable
+     */
+    public CompletableFuture<Void> reload(final Executor executor) {
+        if (builder == null) {
+            throw ConfigMessages.msg.configNotReloadable();
+        }
+        return CompletableFuture.runAsync(new Runnable() {
+            @Override
+            public void run() {
+                // Reloads are serialized, so each generation is built from the latest one
+                synchronized (builder) {
+                    Generation current = generation;
+                    // Resources may have been added or removed since the previous generation
+                    ClassPathResources.clear(builder.getClassLoader());
+                    SmallRyeConfig next = new SmallRyeConfig(SmallRyeConfig.this, current.number + 1,
+                            new ConfigSources(builder));
+                    next.generation.mappings.putAll(next.buildMappings(builder));
+
+                    // Map again the mappings registered after the configuration was built
+                    Set<ConfigClass> configClasses = new HashSet<>();
+                    for (Entry<Class<?>, Map<String, Object>> mapping : current.mappings.entrySet()) {
+                        Map<String, Object> nextMapping = next.generation.mappings.get(mapping.getKey());
+                        for (String prefix : mapping.getValue().keySet()) {
+                            if (nextMapping == null || !nextMapping.containsKey(prefix)) {
+                                configClasses.add(ConfigClass.configClass(mapping.getKey(), prefix));
+                            }
+                        }
+                    }
+                    ConfigMappings.registerConfigClasses(next, configClasses, false);
+
+                    // The changes are found before the swap, so the swap is the last step that can fail the reload
+                    List<ConfigChange> changes = listeners.isEmpty() ? List.of() : changes(current, next.generation);
+
+                    generation = next.generation;
+
+                    if (!changes.isEmpty()) {
+                        listeners.notify(changes, executor);
+                    }
+                }
+            }
+        }, executor);
+    }
+
+    /**
+     * Finds the changes of the names with listeners between two generations. If a listener is subscribed to the names
+     * under its name, the names of both generations are matched with the listeners. Otherwise, only the subscribed
+     * names are looked up. Only the names with listeners are looked up in both generations. A name that fails to
+     * resolve in either generation is not notified.
+     */
+    private List<ConfigChange> changes(final Generation previous, final Generation next) {
+        Set<String> names = new TreeSet<>(listeners.names());
+        if (listeners.hasChildrenListeners()) {
+            for (String name : previous.configSources.getPropertyNames().get()) {
+                if (listeners.hasListeners(name)) {
+                    names.add(name);
+                }
+            }
+            for (String name : next.configSources.getPropertyNames().get()) {
+                if (listeners.hasListeners(name)) {
+                    names.add(name);
+                }
+            }
+        }
+
+        List<ConfigChange> changes = new ArrayList<>();
+        for (String name : names) {
+            ConfigValue oldValue;
+            ConfigValue newValue;
+            try {
+                oldValue = lookup(previous, name);
+                newValue = lookup(next, name);
+            } catch (SecurityException e) {
+                // Secret Keys are not notified
+                continue;
+            } catch (RuntimeException e) {
+                ConfigLogging.log.changeLookupFailure(e, name);
+                continue;
+            }
+            if (!Objects.equals(oldValue != null ? oldValue.getValue() : null,
+                    newValue != null ? newValue.getValue() : null)) {
+                changes.add(new ConfigChange(name, oldValue, newValue));
+            }
+        }
+        return changes;
+    }
+
+    private static ConfigValue lookup(final Generation generation, final String name) {
+        ConfigValue configValue = generation.configSources.getInterceptorChain().proceed(name);
+        return configValue != null && configValue.getValue() != null ? configValue : null;
+    }
+
+    /**
+     * Registers a listener of the changes to a configuration name, and to all the names under it, like
+     * {@code http.port} for the name {@code http}.
+     *
+     * @param name the configuration name, or the parent of the configuration names
+     * @param listener the listener of the changes
+     * @return the {@link ConfigChange.Subscription} of the listener, to stop the notifications
+     * @throws IllegalStateException if the configuration is not reloadable
+     * @see #onChange(String, boolean, Consumer)
+     */
+    public ConfigChange.Subscription onChange(final String name, final Consumer<ConfigChange> listener) {
+        return onChange(name, true, listener);
+    }
+
+    /**
+     * Registers a listener of the changes to a configuration name, and optionally to all the names under it, like
+     * {@code http.port} for the name {@code http}. The listener is notified of the names that have a different value
+     * after a {@link #reload()}, including the names added and removed. Only the values of the names with listeners
+     * are looked up and compared between generations. A name that fails to resolve, like an expression that references
+     * itself, is not notified.
+     * <p>
+     * If only the names are subscribed, without the names under them, a reload only looks up the subscribed names.
+     * The names under a subscribed name are not known in advance, so if any listener is subscribed to the names under
+     * its name, a reload also matches all the names of the previous and the new generation with the listeners, and its
+     * cost grows with the number of names of the configuration.
+     * <p>
+     * The listener is notified in the {@link Executor} set with
+     * {@link SmallRyeConfigBuilder#withChangeExecutor(Executor)}, or in the {@link Executor} of the reload. The changes
+     * of a reload are notified to each listener in a single task, in the order of the names. Secret Keys are not
+     * notified.
+     *
+     * @param name the configuration name, or the parent of the configuration names
+     * @param children {@code true} to also notify the changes to the names under the configuration name
+     * @param listener the listener of the changes
+     * @return the {@link ConfigChange.Subscription} of the listener, to stop the notifications
+     * @throws IllegalStateException if the configuration is not reloadable
+     */
+    public ConfigChange.Subscription onChange(final String name, final boolean children,
+            final Consumer<ConfigChange> listener) {
+        if (listeners == null) {
+            throw ConfigMessages.msg.configNotReloadable();
+        }
+        return listeners.subscribe(name, children, listener);
+    }
+
+    /**
+     * Creates a layered configuration, with additional sources on top of this configuration.
+     * <p>
+     * The layered configuration shares everything already built in this configuration: the sources, the interceptors,
+     * the profiles, the converters, and the cache of the property names. The sources are not loaded again, and
+     * environment variables are not matched again, so a layered configuration only costs its own sources, which makes
+     * it suitable to configure a large number of tenants, that share a base configuration and differ only in a few
+     * overrides. The additional sources are sorted with the sources of this configuration by their ordinal, with
+     * lookups reaching the additional sources first on the same ordinal. Every {@link ConfigMapping} of this
+     * configuration is mapped again in the layered configuration, without reporting unknown properties, which are
+     * already reported by this configuration.
+     * <p>
+     * The sources of this configuration are shared with the layered configuration, and are never modified. A
+     * layered configuration is not reloadable, and keeps the {@link #getGeneration() generation} of this
+     * configuration at the time it was created. The additional sources cannot change the active profiles, and are
+     * not initialized by a {@link ConfigSourceFactory}.
+     *
+     * @param sources the additional sources
+     * @return a new layered configuration
+     * @throws ConfigValidationException if a {@link ConfigMapping} fails to map with the additional sources
+     */
+    public SmallRyeConfig layer(final ConfigSource... sources) {
+        return layer(List.of(sources));
+    }
+
+    /**
+     * Creates a layered configuration, with additional sources on top of this configuration.
+     *
+     * @param sources the additional sources
+     * @return a new layered configuration
+     * @throws ConfigValidationException if a {@link ConfigMapping} fails to map with the additional sources
+     * @see #layer(ConfigSource...)
+     */
+    public SmallRyeConfig layer(final Collection<? extends ConfigSource> sources) {
+        Generation base = generation;
+        SmallRyeConfig layer = new SmallRyeConfig(this, base.number,
+                new ConfigSources(base.configSources, new ArrayList<>(sources)));
+
+        SmallRyeConfigBuilder mappings = new SmallRyeConfigBuilder();
+        for (Entry<Class<?>, Map<String, Object>> mapping : base.mappings.entrySet()) {
+            for (String prefix : mapping.getValue().keySet()) {
+                mappings.withMapping(ConfigClass.configClass(mapping.getKey(), prefix));
+            }
+        }
+        if (!mappings.getMappingsBuilder().isEmpty()) {
+            layer.generation.mappings.putAll(layer.buildMappings(mappings.getMappingsBuilder(), false));
+        }
+        return layer;
+    }
+
+    /**
+     * Returns the generation number of this configuration. The generation starts at {@code 0}, and increments with
+     * each successful {@link #reload()}.
+     *
+     * @return the generation number of this configuration
+     */
+    public long getGeneration() {
+        return generation.number;
+    }
+
     Map<Class<?>, Map<String, Object>> buildMappings(final SmallRyeConfigBuilder builder)
             throws ConfigValidationException {
         SmallRyeConfigBuilder.MappingBuilder mappingsBuilder = builder.getMappingsBuilder();
         if (mappingsBuilder.isEmpty()) {
             return Collections.emptyMap();
         }
+        return buildMappings(mappingsBuilder,
+                getOptionalValue(SMALLRYE_CONFIG_MAPPING_VALIDATE_UNKNOWN, boolean.class).orElse(true));
+    }
 
+    private Map<Class<?>, Map<String, Object>> buildMappings(
+            final SmallRyeConfigBuilder.MappingBuilder mappingsBuilder,
+            final boolean validateUnknown) throws ConfigValidationException {
         // Perform the config mapping
+        ConfigEvents.BuildPhase phase = ConfigEvents.beginBuildPhase("mappings");
         ConfigMappingContext context = SecretKeys.doUnlocked(new Supplier<ConfigMappingContext>() {
             @Override
             public ConfigMappingContext get() {
                 return new ConfigMappingContext(SmallRyeConfig.this, mappingsBuilder);
             }
         });
+        phase.end(context.getMappings().size());
 
-        if (getOptionalValue(SMALLRYE_CONFIG_MAPPING_VALIDATE_UNKNOWN, boolean.class).orElse(true)) {
+        if (validateUnknown) {
+            phase = ConfigEvents.beginBuildPhase("unknown-properties");
             context.reportUnknown(mappingsBuilder.getIgnores());
+            phase.end(context.getProblems().size());
         }
 
         List<ConfigValidationException.Problem> problems = context.getProblems();
@@ -239,12 +516,12 @@ public class SmallRyeConfig implements Config, Serializable {
     }
 
     public List<String> getIndexedProperties(final String property) {
-        Map<Integer, String> indexedProperties = configSources.getPropertyNames().indexed().get(property);
+        Map<Integer, String> indexedProperties = generation.configSources.getPropertyNames().indexed(property);
         return indexedProperties == null ? Collections.emptyList() : indexedProperties.values().stream().toList();
     }
 
     public List<Integer> getIndexedPropertiesIndexes(final String property) {
-        Map<Integer, String> indexedProperties = configSources.getPropertyNames().indexed().get(property);
+        Map<Integer, String> indexedProperties = generation.configSources.getPropertyNames().indexed(property);
         return indexedProperties == null ? Collections.emptyList() : indexedProperties.keySet().stream().toList();
     }
 
@@ -465,7 +742,7 @@ public class SmallRyeConfig implements Config, Serializable {
 
     @Override
     public ConfigValue getConfigValue(final String name) {
-        final ConfigValue configValue = configSources.getInterceptorChain().proceed(name);
+        final ConfigValue configValue = ConfigEvents.lookup(generation.configSources.getInterceptorChain(), name);
         return configValue != null ? configValue : ConfigValue.builder().withName(name).build();
     }
 
@@ -513,6 +790,36 @@ public class SmallRyeConfig implements Config, Serializable {
         return getValue(name, newOptionalConverter(converter));
     }
 
+    /**
+     * Creates a {@link ConfigKey} handle to a configuration name. The handle binds the name to the type and the
+     * {@link Converter} of the type, and keeps the resolved value until the configuration is reloaded.
+     *
+     * @param name the configuration name
+     * @param type the type of the value
+     * @return a {@link ConfigKey} handle to the configuration name
+     * @param <T> the type of the value
+     * @throws IllegalArgumentException if no {@link Converter} is registered for the type
+     */
+    public <T> ConfigKey<T> key(final String name, final Class<T> type) {
+        return new ConfigKey<>(this, name, type, null);
+    }
+
+    /**
+     * Creates a {@link ConfigKey} handle to a configuration name, with a default value. The default value is
+     * converted once, when the handle is created, and returned when the configuration name has no value.
+     *
+     * @param name the configuration name
+     * @param type the type of the value
+     * @param defaultValue the default value
+     * @return a {@link ConfigKey} handle to the configuration name
+     * @param <T> the type of the value
+     * @throws IllegalArgumentException if no {@link Converter} is registered for the type, or if the default value
+     *         cannot be converted to the type
+     */
+    public <T> ConfigKey<T> key(final String name, final Class<T> type, final String defaultValue) {
+        return new ConfigKey<>(this, name, type, defaultValue);
+    }
+
     @Override
     public <T> Optional<List<T>> getOptionalValues(final String name, final Class<T> propertyType) {
         return getOptionalValues(name, propertyType, ArrayList::new);
@@ -635,7 +942,7 @@ public class SmallRyeConfig implements Config, Serializable {
     }
 
     Map<Class<?>, Map<String, Object>> getMappings() {
-        return mappings;
+        return generation.mappings;
     }
 
     @Override
@@ -650,7 +957,7 @@ public class SmallRyeConfig implements Config, Serializable {
             return getConfigMapping(type);
         }
 
-        Map<String, Object> mappingsForType = mappings.get(getConfigMappingClass(type));
+        Map<String, Object> mappingsForType = generation.mappings.get(getConfigMappingClass(type));
         if (mappingsForType == null) {
             throw ConfigMessages.msg.mappingNotFound(type.getName());
         }
@@ -665,12 +972,12 @@ public class SmallRyeConfig implements Config, Serializable {
 
     @Override
     public Iterable<String> getPropertyNames() {
-        return configSources.getPropertyNames().get();
+        return generation.configSources.getPropertyNames().get();
     }
 
     @Override
     public Iterable<String> getLatestPropertyNames() {
-        return configSources.getPropertyNames().latest();
+        return generation.configSources.getPropertyNames().latest();
     }
 
     @Override
@@ -683,7 +990,7 @@ public class SmallRyeConfig implements Config, Serializable {
 
     @Override
     public Iterable<ConfigSource> getConfigSources() {
-        return configSources.getSources();
+        return generation.configSources.getSources();
     }
 
     @Override
@@ -709,7 +1016,7 @@ public class SmallRyeConfig implements Config, Serializable {
     }
 
     DefaultValuesConfigSource getDefaultValues() {
-        return configSources.defaultValues;
+        return generation.configSources.defaultValues;
     }
 
     @Deprecated
@@ -780,7 +1087,23 @@ public class SmallRyeConfig implements Config, Serializable {
 
     @Override
     public List<String> getProfiles() {
-        return configSources.getProfiles();
+        return generation.configSources.getProfiles();
+    }
+
+    /**
+     * A generation of the configuration sources and mappings. A reload replaces the whole generation, so
+     * each lookup reads the sources and mappings of a single generation.
+     */
+    private static final class Generation {
+        private final long number;
+        private final ConfigSources configSources;
+        // Mappings may still be registered after the configuration is built
+        private final Map<Class<?>, Map<String, Object>> mappings = new ConcurrentHashMap<>();
+
+        Generation(final long number, final ConfigSources configSources) {
+            this.number = number;
+            this.configSources = configSources;
+        }
     }
 
     private static class ConfigSources implements Serializable {
@@ -796,6 +1119,9 @@ public class SmallRyeConfig implements Config, Serializable {
 
         private final List<String> profiles;
         private final List<ConfigSource> sources;
+        private final List<ConfigSourceWithPriority> sourcesWithPriorities;
+        private final List<ConfigSourceInterceptor> negativeInterceptors;
+        private final List<ConfigSourceInterceptor> positiveInterceptors;
         private final DefaultValuesConfigSource defaultValues;
         private final ConfigSourceInterceptorContext interceptorChain;
         private final PropertyNames propertyNames;
@@ -807,12 +1133,15 @@ public class SmallRyeConfig implements Config, Serializable {
          */
         ConfigSources(final SmallRyeConfigBuilder builder) {
             // Add all sources except for ConfigurableConfigSource types. These are initialized later
+            ConfigEvents.BuildPhase phase = ConfigEvents.beginBuildPhase("sources");
             List<ConfigSource> sources = buildSources(builder);
+            phase.end(sources.size());
             // Add the default values sources separately, so we can keep a reference to it and add mappings defaults
             DefaultValuesConfigSource defaultValues = new DefaultValuesConfigSource(builder.getDefaults());
             sources.add(defaultValues);
 
             // Add all interceptors
+            phase = ConfigEvents.beginBuildPhase("interceptors");
             List<ConfigSourceInterceptor> negativeInterceptors = new ArrayList<>();
             List<ConfigSourceInterceptor> positiveInterceptors = new ArrayList<>();
             SmallRyeConfigSources negativeSources = new SmallRyeConfigSources(mapSources(sources), true);
@@ -840,28 +1169,44 @@ public class SmallRyeConfig implements Config, Serializable {
                 }
             }
 
+            phase.end(interceptorWithPriorities.size());
+
             // Init all late sources
+            phase = ConfigEvents.beginBuildPhase("late-sources");
             List<String> profiles = getProfiles(positiveInterceptors);
             List<ConfigSourceWithPriority> sourcesWithPriorities = mapLateSources(sources, negativeInterceptors,
                     positiveInterceptors, current, profiles, builder);
             List<ConfigSource> configSources = getSources(sourcesWithPriorities);
+            phase.end(configSources.size());
 
             // Rebuild the chain with the late sources and new instances of the interceptors
             // The new instance will ensure that we get rid of references to factories and other stuff and keep only
             // the resolved final source or interceptor to use.
+            List<ConfigSourceInterceptor> negativeChainInterceptors = chainInterceptors(negativeInterceptors);
+            List<ConfigSourceInterceptor> positiveChainInterceptors = chainInterceptors(positiveInterceptors);
             current = new SmallRyeConfigSourceInterceptorContext(EMPTY, null, chain);
             current = new SmallRyeConfigSourceInterceptorContext(new SmallRyeConfigSources(sourcesWithPriorities, true),
                     current, chain);
-            for (ConfigSourceInterceptor interceptor : negativeInterceptors) {
+            for (ConfigSourceInterceptor interceptor : negativeChainInterceptors) {
                 current = new SmallRyeConfigSourceInterceptorContext(interceptor, current, chain);
             }
             current = new SmallRyeConfigSourceInterceptorContext(new SmallRyeConfigSources(sourcesWithPriorities, false),
                     current, chain);
-            for (ConfigSourceInterceptor interceptor : positiveInterceptors) {
+            Map<ExpressionConfigSourceInterceptor, ConfigSourceInterceptorContext> expressions = new IdentityHashMap<>();
+            for (ConfigSourceInterceptor interceptor : positiveChainInterceptors) {
+                if (interceptor instanceof ExpressionConfigSourceInterceptor expressionInterceptor) {
+                    expressions.put(expressionInterceptor, current);
+                }
                 current = new SmallRyeConfigSourceInterceptorContext(interceptor, current, chain);
             }
+            // Decode the secrets of batch handlers once the chain is complete
+            for (Entry<ExpressionConfigSourceInterceptor, ConfigSourceInterceptorContext> expression : expressions
+                    .entrySet()) {
+                expression.getKey().prefetchSecrets(expression.getValue());
+            }
 
             // Do it once here do we don't have to recalculate on each EnvSource
+            phase = ConfigEvents.beginBuildPhase("env-matching");
             List<Entry<String, Supplier<Iterator<String>>>> properties = buildPropertiesForEnvMatching(builder, sources,
                     profiles);
             // Adjust the EnvSources to look for names with dashes instead of dots
@@ -870,12 +1215,50 @@ public class SmallRyeConfig implements Config, Serializable {
                     ((EnvConfigSource) source).matchEnvWithProperties(properties, profiles);
                 }
             }
+            phase.end(properties.size());
 
             this.profiles = profiles;
             this.sources = configSources;
+            this.sourcesWithPriorities = sourcesWithPriorities;
+            this.negativeInterceptors = negativeChainInterceptors;
+            this.positiveInterceptors = positiveChainInterceptors;
             this.defaultValues = defaultValues;
             this.interceptorChain = current;
-            this.propertyNames = new PropertyNames(current, builder.getSecretKeys(), builder.isCachePropertyNames());
+            this.propertyNames = new PropertyNames(current, builder.getSecretKeys(), builder.isCachePropertyNames(),
+                    builder.isReloadable(), sourcesWithPriorities, negativeInterceptors, positiveInterceptors);
+        }
+
+        /**
+         * Builds the Config Sources of a layered configuration, with additional sources on top of the sources of a
+         * base configuration. The interceptors of the base configuration are already initialized, so the same
+         * instances are chained with the additional sources, and the names of the base configuration are only
+         * updated with the names of the additional sources.
+         */
+        ConfigSources(final ConfigSources base, final List<ConfigSource> sources) {
+            List<ConfigSourceWithPriority> sourcesWithPriorities = new ArrayList<>(base.sourcesWithPriorities);
+            for (int i = 0; i < sources.size(); i++) {
+                // A lower load priority than any of the base sources, to come first on the same ordinal
+                sourcesWithPriorities.add(new ConfigSourceWithPriority(sources.get(i), i - sources.size()));
+            }
+            sourcesWithPriorities.sort(null);
+            Collections.reverse(sourcesWithPriorities);
+
+            SmallRyeConfigSourceInterceptorContext current = chain(sourcesWithPriorities, base.negativeInterceptors,
+                    base.positiveInterceptors);
+
+            List<ConfigSource> configSources = new ArrayList<>(sourcesWithPriorities.size());
+            for (ConfigSourceWithPriority sourceWithPriority : sourcesWithPriorities) {
+                configSources.add(sourceWithPriority.getSource());
+            }
+
+            this.profiles = base.profiles;
+            this.sources = Collections.unmodifiableList(configSources);
+            this.sourcesWithPriorities = sourcesWithPriorities;
+            this.negativeInterceptors = base.negativeInterceptors;
+            this.positiveInterceptors = base.positiveInterceptors;
+            this.defaultValues = base.defaultValues;
+            this.interceptorChain = current;
+            this.propertyNames = new PropertyNames(base.propertyNames, current, sourcesWithPriorities);
         }
 
         private static List<ConfigSource> buildSources(final SmallRyeConfigBuilder builder) {
@@ -941,6 +1324,49 @@ public class SmallRyeConfig implements Config, Serializable {
             return Collections.emptyList();
         }
 
+        /**
+         * Prepares the interceptors to add to the interceptor chain. Inactive interceptors are left out, and
+         * consecutive relocate and fallback interceptors with mappings are fused into a single interceptor, to reduce
+         * the number of calls in the chain for each lookup.
+         *
+         * @param interceptors the interceptors, ordered by priority
+         * @return the interceptors to add to the chain, ordered by priority
+         */
+        private static List<ConfigSourceInterceptor> chainInterceptors(final List<ConfigSourceInterceptor> interceptors) {
+            List<ConfigSourceInterceptor> chainInterceptors = new ArrayList<>();
+            List<AbstractMappingConfigSourceInterceptor> mappings = new ArrayList<>();
+            for (ConfigSourceInterceptor interceptor : interceptors) {
+                if (!interceptor.isActive()) {
+                    continue;
+                }
+                if (MappingsConfigSourceInterceptor.isFusible(interceptor)) {
+                    AbstractMappingConfigSourceInterceptor mapping = (AbstractMappingConfigSourceInterceptor) interceptor;
+                    if (!mapping.getTable().isEmpty()) {
+                        mappings.add(mapping);
+                    }
+                    continue;
+                }
+                fuse(mappings, chainInterceptors);
+                chainInterceptors.add(interceptor);
+            }
+            fuse(mappings, chainInterceptors);
+            return chainInterceptors;
+        }
+
+        private static void fuse(
+                final List<AbstractMappingConfigSourceInterceptor> mappings,
+                final List<ConfigSourceInterceptor> chainInterceptors) {
+            if (mappings.size() == 1) {
+                chainInterceptors.add(mappings.get(0));
+            } else if (mappings.size() > 1) {
+                // the interceptor with the highest priority is the first called in the chain
+                List<AbstractMappingConfigSourceInterceptor> fused = new ArrayList<>(mappings);
+                Collections.reverse(fused);
+                chainInterceptors.add(new MappingsConfigSourceInterceptor(fused));
+            }
+            mappings.clear();
+        }
+
         private static List<ConfigSourceWithPriority> mapLateSources(
                 final List<ConfigSource> sources,
                 final List<ConfigSourceInterceptor> negativeInterceptors,
@@ -962,18 +1388,8 @@ public class SmallRyeConfig implements Config, Serializable {
             List<ConfigSourceWithPriority> currentSources = mapSources(sources, profileSources);
 
             // Rebuild the chain with the profiles sources, so profiles values are also available in factories
-            SmallRyeConfigSourceInterceptorContext.InterceptorChain chain = new SmallRyeConfigSourceInterceptorContext.InterceptorChain();
-            ConfigSourceInterceptorContext context = new SmallRyeConfigSourceInterceptorContext(EMPTY, null, chain);
-            context = new SmallRyeConfigSourceInterceptorContext(
-                    new SmallRyeConfigSources(currentSources, true), context, chain);
-            for (ConfigSourceInterceptor interceptor : negativeInterceptors) {
-                context = new SmallRyeConfigSourceInterceptorContext(interceptor, context, chain);
-            }
-            context = new SmallRyeConfigSourceInterceptorContext(
-                    new SmallRyeConfigSources(currentSources, false), context, chain);
-            for (ConfigSourceInterceptor interceptor : positiveInterceptors) {
-                context = new SmallRyeConfigSourceInterceptorContext(interceptor, context, chain);
-            }
+            ConfigSourceInterceptorContext context = chain(currentSources, chainInterceptors(negativeInterceptors),
+                    chainInterceptors(positiveInterceptors));
 
             // Init remaining sources, coming from SmallRyeConfig
             int countSourcesFromLocations = 0;
@@ -1003,6 +1419,33 @@ public class SmallRyeConfig implements Config, Serializable {
             return mapSources(sources, profileSources, lateSources);
         }
 
+        /**
+         * Chains the sources with the interceptors. The sources with a negative ordinal are chained below the
+         * interceptors with a negative priority, and the sources with a positive ordinal below the interceptors with a
+         * positive priority.
+         *
+         * @param sources the sources, ordered by priority
+         * @param negativeInterceptors the interceptors with a negative priority, ordered by priority
+         * @param positiveInterceptors the interceptors with a positive priority, ordered by priority
+         * @return the first context of the chain
+         */
+        private static SmallRyeConfigSourceInterceptorContext chain(
+                final List<ConfigSourceWithPriority> sources,
+                final List<ConfigSourceInterceptor> negativeInterceptors,
+                final List<ConfigSourceInterceptor> positiveInterceptors) {
+            SmallRyeConfigSourceInterceptorContext.InterceptorChain chain = new SmallRyeConfigSourceInterceptorContext.InterceptorChain();
+            SmallRyeConfigSourceInterceptorContext context = new SmallRyeConfigSourceInterceptorContext(EMPTY, null, chain);
+            context = new SmallRyeConfigSourceInterceptorContext(new SmallRyeConfigSources(sources, true), context, chain);
+            for (ConfigSourceInterceptor interceptor : negativeInterceptors) {
+                context = new SmallRyeConfigSourceInterceptorContext(interceptor, context, chain);
+            }
+            context = new SmallRyeConfigSourceInterceptorContext(new SmallRyeConfigSources(sources, false), context, chain);
+            for (ConfigSourceInterceptor interceptor : positiveInterceptors) {
+                context = new SmallRyeConfigSourceInterceptorContext(interceptor, context, chain);
+            }
+            return context;
+        }
+
         private static List<ConfigSource> getSources(final List<ConfigSourceWithPriority> sourceWithPriorities) {
             List<ConfigSource> configSources = new ArrayList<>();
             for (ConfigSourceWithPriority configSourceWithPriority : sourceWithPriorities) {
@@ -1120,74 +1563,148 @@ public class SmallRyeConfig implements Config, Serializable {
 
             private final SmallRyeConfigSourceInterceptorContext interceptorChain;
             private final PropertyNamesMatcher<?> secretKeys;
+            private final SecretKeysConfigSourceInterceptor secretKeysInterceptor;
             private final boolean cachePropertyNames;
+            private final List<ConfigSourceWithPriority> sources;
+            private final List<ConfigSourceInterceptor> negativeInterceptors;
+            private final List<ConfigSourceInterceptor> positiveInterceptors;
+            private final boolean incremental;
+            private final PropertyNames base;
+            private final List<ConfigSourceWithPriority> layerSources;
 
             private final AtomicReference<Names> names = new AtomicReference<>(Names.empty());
 
             public PropertyNames(
                     final SmallRyeConfigSourceInterceptorContext interceptorChain,
                     final PropertyNamesMatcher<?> secretKeys,
-                    final boolean cachePropertyNames) {
+                    final boolean cachePropertyNames,
+                    final boolean trackChanges,
+                    final List<ConfigSourceWithPriority> sources,
+                    final List<ConfigSourceInterceptor> negativeInterceptors,
+                    final List<ConfigSourceInterceptor> positiveInterceptors) {
                 this.interceptorChain = interceptorChain;
                 this.secretKeys = secretKeys;
+                this.secretKeysInterceptor = getSecretKeysInterceptor(negativeInterceptors, positiveInterceptors);
                 this.cachePropertyNames = cachePropertyNames;
+                this.sources = sources;
+                this.negativeInterceptors = negativeInterceptors;
+                this.positiveInterceptors = positiveInterceptors;
+                // The counts of the names and the state of each source are only kept when changes are expected
+                this.incremental = trackChanges && cachePropertyNames && isNameLocal(negativeInterceptors)
+                        && isNameLocal(positiveInterceptors);
+                this.base = null;
+                this.layerSources = null;
+            }
+
+            /**
+             * Creates the names of a layered configuration, with the same interceptors of the names of the base
+             * configuration, and the sources of the layered configuration. If the names of a single source can go
+             * through the interceptors, the names of the layered configuration only keep the names of the additional
+             * sources, and read the names of the base configuration from the base configuration.
+             */
+            PropertyNames(
+                    final PropertyNames base,
+                    final SmallRyeConfigSourceInterceptorContext interceptorChain,
+                    final List<ConfigSourceWithPriority> sources) {
+                this.interceptorChain = interceptorChain;
+                this.secretKeys = base.secretKeys;
+                this.secretKeysInterceptor = base.secretKeysInterceptor;
+                this.cachePropertyNames = base.cachePropertyNames;
+                this.sources = sources;
+                this.negativeInterceptors = base.negativeInterceptors;
+                this.positiveInterceptors = base.positiveInterceptors;
+                this.incremental = false;
+                if (cachePropertyNames && isNameLocal(negativeInterceptors) && isNameLocal(positiveInterceptors)) {
+                    this.base = base;
+                    Set<ConfigSource> baseSources = Collections.newSetFromMap(new IdentityHashMap<>());
+                    for (ConfigSourceWithPriority sourceWithPriority : base.sources) {
+                        baseSources.add(sourceWithPriority.getSource());
+                    }
+                    List<ConfigSourceWithPriority> layerSources = new ArrayList<>();
+                    for (ConfigSourceWithPriority sourceWithPriority : sources) {
+                        if (!baseSources.contains(sourceWithPriority.getSource())) {
+                            layerSources.add(sourceWithPriority);
+                        }
+                    }
+                    this.layerSources = layerSources;
+                } else {
+                    this.base = null;
+                    this.layerSources = null;
+                }
             }
 
             Iterable<String> get() {
+                if (base != null) {
+                    return layer(false);
+                }
                 if (!cachePropertyNames || names.get().isEmpty()) {
                     return latest();
                 }
                 return new NamesIterable(names.get());
             }
 
-            Map<String, Map<Integer, String>> indexed() {
+            Map<Integer, String> indexed(final String name) {
                 // ensure populated
                 get();
-                return names.get().indexed();
+                Map<Integer, String> indexes = names.get().indexed().get(name);
+                if (base == null) {
+                    return indexes;
+                }
+
+                Map<Integer, String> baseIndexes = base.indexed(name);
+                if (indexes == null || baseIndexes == null) {
+                    return indexes != null ? indexes : baseIndexes;
+                }
+                Map<Integer, String> merged = new TreeMap<>(baseIndexes);
+                for (Entry<Integer, String> index : indexes.entrySet()) {
+                    merged.merge(index.getKey(), index.getValue(), new BiFunction<String, String, String>() {
+                        @Override
+                        public String apply(final String baseName, final String layerName) {
+                            // the same preference of addIndexed for the name that ends with the index
+                            return baseName.equals(name + "[" + index.getKey() + "]") ? baseName : layerName;
+                        }
+                    });
+                }
+                return merged;
             }
 
             Iterable<String> latest() {
+                if (base != null) {
+                    return layer(true);
+                }
+
+                if (incremental) {
+                    Names current = this.names.get();
+                    if (current.counts() != null) {
+                        Names updated = update(current);
+                        if (updated != null) {
+                            this.names.compareAndSet(current, updated);
+                            return new NamesIterable(this.names.get());
+                        }
+                    }
+                }
+
+                // Record the state of the sources before iterating the names, so later changes are not missed
+                Map<ConfigSource, Object> states = incremental ? states() : null;
+                Map<String, Integer> counts = incremental ? new HashMap<>() : null;
                 Set<String> names = new HashSet<>();
                 Set<String> secretNames = new HashSet<>();
                 Map<String, Map<Integer, String>> indexed = new HashMap<>();
                 Iterator<String> namesIterator = interceptorChain.iterateNames();
                 while (namesIterator.hasNext()) {
                     String name = namesIterator.next();
-                    // separate empty check to avoid PropertyName alloc
-                    if (!secretKeys.isEmpty() && secretKeys.matches(PropertyName.unprofiled(name).getName())) {
+                    if (counts != null) {
+                        counts.merge(name, 1, Integer::sum);
+                    }
+                    if (isSecret(name)) {
                         secretNames.add(name);
                     } else {
                         names.add(name);
                     }
-
-                    if (name.indexOf('[') != -1) {
-                        for (int i = 0; i < name.length(); i++) {
-                            if (name.charAt(i) == '[') {
-                                int indexEnd = name.indexOf(']', i);
-                                if (StringUtil.isNumeric(name, i + 1, indexEnd - 1 - i)) {
-                                    if (indexEnd == name.length() - 1
-                                            || (name.charAt(indexEnd + 1) == '.' && indexEnd + 2 < name.length())) {
-                                        Integer index = Integer.valueOf(name.substring(i + 1, indexEnd));
-                                        String parentKey = name.substring(0, i);
-                                        indexed.computeIfAbsent(parentKey, key -> new TreeMap<>())
-                                                .compute(index, new BiFunction<Integer, String, String>() {
-                                                    @Override
-                                                    public String apply(final Integer key, final String value) {
-                                                        if (value != null && indexEnd == value.length() - 1) {
-                                                            return value;
-                                                        }
-                                                        return name;
-                                                    }
-                                                });
-                                    }
-                                    i = indexEnd + 1;
-                                }
-                            }
-                        }
-                    }
+                    addIndexed(name, indexed);
                 }
                 names.remove(ConfigSource.CONFIG_ORDINAL);
-                Names all = new Names(names, secretNames, indexed);
+                Names all = new Names(names, secretNames, indexed, counts, states);
                 if (cachePropertyNames) {
                     this.names.compareAndSet(this.names.get(), all);
                     return new NamesIterable(this.names.get());
@@ -1196,22 +1713,411 @@ public class SmallRyeConfig implements Config, Serializable {
                 }
             }
 
+            /**
+             * The names of a layered configuration, with the names of the base configuration, and the names of the
+             * additional sources, which are the only names kept by the layered configuration. The names of each
+             * additional source go through the same interceptors of the chain.
+             *
+             * @param latest {@code true} to read the latest names of the sources
+             * @return the names of the layered configuration
+             */
+            private Iterable<String> layer(final boolean latest) {
+                Names layer = this.names.get();
+                if (latest || layer.isEmpty()) {
+                    Set<String> names = new HashSet<>();
+                    Set<String> secretNames = new HashSet<>();
+                    Map<String, Map<Integer, String>> indexed = new HashMap<>();
+                    for (ConfigSourceWithPriority sourceWithPriority : layerSources) {
+                        Iterator<String> namesIterator = iterateNames(names(sourceWithPriority.getSource()),
+                                sourceWithPriority.priority() < 0);
+                        while (namesIterator.hasNext()) {
+                            String name = namesIterator.next();
+                            if (isSecret(name)) {
+                                secretNames.add(name);
+                            } else {
+                                names.add(name);
+                            }
+                            addIndexed(name, indexed);
+                        }
+                    }
+                    names.remove(ConfigSource.CONFIG_ORDINAL);
+                    this.names.compareAndSet(layer, new Names(names, secretNames, indexed, null, null));
+                    layer = this.names.get();
+                }
+
+                if (latest) {
+                    base.latest();
+                } else {
+                    base.get();
+                }
+                return new NamesIterable(base.names.get(), layer);
+            }
+
+            /**
+             * Updates the names with the changes of each source since the previous update. The changed names of each
+             * source go through the same interceptors of the chain, and the resulting names are counted, because
+             * multiple sources may provide the same name. A name is only removed when its count drops to zero.
+             *
+             * @param current the current names
+             * @return a new version of the names, or {@code null} if a source cannot provide its changes
+             */
+            @SuppressWarnings("unchecked")
+            private Names update(final Names current) {
+                Map<ConfigSource, Object> states = null;
+                Map<String, Integer> counts = null;
+                Set<String> changed = new HashSet<>();
+                for (ConfigSourceWithPriority sourceWithPriority : sources) {
+                    ConfigSource source = sourceWithPriority.getSource();
+                    Object state = current.states().get(source);
+                    Set<String> added;
+                    Set<String> removed;
+                    if (source instanceof ChangeTrackingConfigSource trackingSource) {
+                        long version = (Long) state;
+                        if (trackingSource.getNamesVersion() == version) {
+                            continue;
+                        }
+                        ChangeTrackingConfigSource.NamesDelta delta = trackingSource.getNamesDelta(version);
+                        if (delta == null) {
+                            return null;
+                        }
+                        added = delta.added();
+                        removed = delta.removed();
+                        state = delta.version();
+                    } else {
+                        Set<String> previous = (Set<String>) state;
+                        Set<String> latest = names(source);
+                        if (latest.equals(previous)) {
+                            continue;
+                        }
+                        added = new HashSet<>(latest);
+                        added.removeAll(previous);
+                        removed = new HashSet<>(previous);
+                        removed.removeAll(latest);
+                        state = latest;
+                    }
+
+                    if (states == null) {
+                        states = new IdentityHashMap<>(current.states());
+                        counts = new HashMap<>(current.counts());
+                    }
+                    states.put(source, state);
+                    boolean negative = sourceWithPriority.priority() < 0;
+                    Iterator<String> addedNames = iterateNames(added, negative);
+                    while (addedNames.hasNext()) {
+                        String name = addedNames.next();
+                        counts.merge(name, 1, Integer::sum);
+                        changed.add(name);
+                    }
+                    Iterator<String> removedNames = iterateNames(removed, negative);
+                    while (removedNames.hasNext()) {
+                        String name = removedNames.next();
+                        counts.computeIfPresent(name, (key, count) -> count > 1 ? count - 1 : null);
+                        changed.add(name);
+                    }
+                }
+
+                if (states == null) {
+                    return current;
+                }
+
+                Set<String> names = null;
+                Set<String> secretNames = null;
+                Map<String, Map<Integer, String>> indexed = null;
+                Set<String> copied = new HashSet<>();
+                Set<String> removed = new HashSet<>();
+                for (String name : changed) {
+                    boolean present = counts.containsKey(name);
+                    if (present == current.counts().containsKey(name)) {
+                        continue;
+                    }
+                    if (names == null) {
+                        names = new HashSet<>(current.names());
+                        secretNames = new HashSet<>(current.secretNames());
+                        indexed = new HashMap<>(current.indexed());
+                    }
+                    boolean secret = isSecret(name);
+                    if (present) {
+                        if (secret) {
+                            secretNames.add(name);
+                        } else if (!ConfigSource.CONFIG_ORDINAL.equals(name)) {
+                            names.add(name);
+                        }
+                        addIndexed(name, indexed, copied);
+                    } else {
+                        (secret ? secretNames : names).remove(name);
+                        removed.add(name);
+                    }
+                }
+                if (!removed.isEmpty()) {
+                    removeIndexed(removed, indexed, copied, counts);
+                }
+
+                if (names == null) {
+                    return new Names(current.names(), current.secretNames(), current.indexed(), counts, states);
+                }
+                return new Names(names, secretNames, indexed, counts, states);
+            }
+
+            private Map<ConfigSource, Object> states() {
+                Map<ConfigSource, Object> states = new IdentityHashMap<>();
+                for (ConfigSourceWithPriority sourceWithPriority : sources) {
+                    ConfigSource source = sourceWithPriority.getSource();
+                    if (source instanceof ChangeTrackingConfigSource trackingSource) {
+                        states.put(source, trackingSource.getNamesVersion());
+                    } else {
+                        states.put(source, names(source));
+                    }
+                }
+                return states;
+            }
+
+            private static Set<String> names(final ConfigSource source) {
+                Set<String> names = source.getPropertyNames();
+                return names != null ? new HashSet<>(names) : Collections.emptySet();
+            }
+
+            /**
+             * Iterates the names through the interceptors that would process them in the chain. Names from sources
+             * with a negative ordinal go through all interceptors, and names from sources with a positive ordinal only
+             * go through the interceptors with a positive priority.
+             */
+            private Iterator<String> iterateNames(final Set<String> names, final boolean negative) {
+                Iterator<String> iterator = names.iterator();
+                if (negative) {
+                    for (ConfigSourceInterceptor interceptor : negativeInterceptors) {
+                        iterator = interceptor.iterateNames(new NamesContext(interceptorChain, iterator));
+                    }
+                }
+                for (ConfigSourceInterceptor interceptor : positiveInterceptors) {
+                    iterator = interceptor.iterateNames(new NamesContext(interceptorChain, iterator));
+                }
+                return iterator;
+            }
+
+            private static void addIndexed(final String name, final Map<String, Map<Integer, String>> indexed) {
+                addIndexed(name, indexed, null);
+            }
+
+            /**
+             * Adds a name to the indexed names, for each of its indexes.
+             *
+             * @param name the name
+             * @param indexed the indexed names by parent name
+             * @param copied the parent names already copied, when {@code indexed} may be shared with a previous
+             *        version of the names, or {@code null} if it is not shared
+             */
+            private static void addIndexed(
+                    final String name,
+                    final Map<String, Map<Integer, String>> indexed,
+                    final Set<String> copied) {
+                forEachIndex(name, new IndexedName() {
+                    @Override
+                    public void accept(final String parentKey, final Integer index, final int indexEnd) {
+                        indexes(parentKey, indexed, copied).compute(index, new BiFunction<Integer, String, String>() {
+                            @Override
+                            public String apply(final Integer key, final String value) {
+                                if (value != null && indexEnd == value.length() - 1) {
+                                    return value;
+                                }
+                                return name;
+                            }
+                        });
+                    }
+                });
+            }
+
+            /**
+             * Removes names from the indexed names. If a removed name was the name of an index, it is replaced by
+             * another name with the same index, preferring the name that ends with the index.
+             */
+            private static void removeIndexed(
+                    final Set<String> names,
+                    final Map<String, Map<Integer, String>> indexed,
+                    final Set<String> copied,
+                    final Map<String, Integer> counts) {
+                Map<String, Set<Integer>> pending = new HashMap<>();
+                for (String name : names) {
+                    forEachIndex(name, new IndexedName() {
+                        @Override
+                        public void accept(final String parentKey, final Integer index, final int indexEnd) {
+                            Map<Integer, String> indexes = indexed.get(parentKey);
+                            if (indexes == null || !name.equals(indexes.get(index))) {
+                                return;
+                            }
+                            String indexedName = name.substring(0, indexEnd + 1);
+                            if (counts.containsKey(indexedName)) {
+                                indexes(parentKey, indexed, copied).put(index, indexedName);
+                            } else {
+                                indexes(parentKey, indexed, copied).remove(index);
+                                pending.computeIfAbsent(parentKey, key -> new HashSet<>()).add(index);
+                            }
+                        }
+                    });
+                }
+
+                if (!pending.isEmpty()) {
+                    for (String candidate : counts.keySet()) {
+                        forEachIndex(candidate, new IndexedName() {
+                            @Override
+                            public void accept(final String parentKey, final Integer index, final int indexEnd) {
+                                Set<Integer> indexes = pending.get(parentKey);
+                                if (indexes != null && indexes.contains(index)) {
+                                    indexed.get(parentKey).putIfAbsent(index, candidate);
+                                }
+                            }
+                        });
+                    }
+                    for (String parentKey : pending.keySet()) {
+                        if (indexed.get(parentKey).isEmpty()) {
+                            indexed.remove(parentKey);
+                        }
+                    }
+                }
+            }
+
+            private static Map<Integer, String> indexes(
+                    final String parentKey,
+                    final Map<String, Map<Integer, String>> indexed,
+                    final Set<String> copied) {
+                Map<Integer, String> indexes = indexed.get(parentKey);
+                if (indexes == null) {
+                    indexes = new TreeMap<>();
+                    indexed.put(parentKey, indexes);
+                    if (copied != null) {
+                        copied.add(parentKey);
+                    }
+                } else if (copied != null && copied.add(parentKey)) {
+                    indexes = new TreeMap<>(indexes);
+                    indexed.put(parentKey, indexes);
+                }
+                return indexes;
+            }
+
+            private static void forEachIndex(final String name, final IndexedName indexedName) {
+                if (name.indexOf('[') != -1) {
+                    for (int i = 0; i < name.length(); i++) {
+                        if (name.charAt(i) == '[') {
+                            int indexEnd = name.indexOf(']', i);
+                            if (StringUtil.isNumeric(name, i + 1, indexEnd - 1 - i)) {
+                                if (indexEnd == name.length() - 1
+                                        || (name.charAt(indexEnd + 1) == '.' && indexEnd + 2 < name.length())) {
+                                    indexedName.accept(name.substring(0, i), Integer.valueOf(name.substring(i + 1, indexEnd)),
+                                            indexEnd);
+                                }
+                                i = indexEnd + 1;
+                            }
+                        }
+                    }
+                }
+            }
+
+            private interface IndexedName {
+                void accept(String parentKey, Integer index, int indexEnd);
+            }
+
+            /**
+             * Only interceptors that resolve each name independently of other names can process the names of a
+             * single source. This is the case of the interceptors that do not override
+             * {@link ConfigSourceInterceptor#iterateNames(ConfigSourceInterceptorContext)}, and the interceptors
+             * provided by SmallRye Config that do.
+             */
+            private static boolean isNameLocal(final List<ConfigSourceInterceptor> interceptors) {
+                for (ConfigSourceInterceptor interceptor : interceptors) {
+                    try {
+                        Class<?> declaringClass = interceptor.getClass()
+                                .getMethod("iterateNames", ConfigSourceInterceptorContext.class)
+                                .getDeclaringClass();
+                        if (declaringClass != ConfigSourceInterceptor.class
+                                && declaringClass != AbstractMappingConfigSourceInterceptor.class
+                                && declaringClass != ProfileConfigSourceInterceptor.class) {
+                            return false;
+                        }
+                    } catch (NoSuchMethodException e) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            private boolean isSecret(final String name) {
+                if (secretKeysInterceptor != null) {
+                    return secretKeysInterceptor.isSecret(name);
+                }
+                // separate empty check to avoid PropertyName alloc
+                return !secretKeys.isEmpty() && secretKeys.matches(PropertyName.unprofiled(name).getName());
+            }
+
+            /**
+             * Finds the {@link SecretKeysConfigSourceInterceptor} of the configuration Secret Keys, to share the
+             * classification of names as Secret Keys between lookups and the names cache.
+             */
+            private SecretKeysConfigSourceInterceptor getSecretKeysInterceptor(
+                    final List<ConfigSourceInterceptor> negativeInterceptors,
+                    final List<ConfigSourceInterceptor> positiveInterceptors) {
+                for (List<ConfigSourceInterceptor> interceptors : List.of(positiveInterceptors, negativeInterceptors)) {
+                    for (ConfigSourceInterceptor interceptor : interceptors) {
+                        if (interceptor instanceof SecretKeysConfigSourceInterceptor secretKeysInterceptor
+                                && secretKeysInterceptor.getSecrets() == secretKeys) {
+                            return secretKeysInterceptor;
+                        }
+                    }
+                }
+                return null;
+            }
+
+            /**
+             * The names of the cache, and the state required to update them. The {@code counts} and {@code states}
+             * are only available if the names can be updated incrementally. A {@code state} is the names version of
+             * a {@link ChangeTrackingConfigSource}, or a copy of the names of any other {@link ConfigSource}.
+             */
             private record Names(
                     Set<String> names,
                     Set<String> secretNames,
-                    Map<String, Map<Integer, String>> indexed) {
+                    Map<String, Map<Integer, String>> indexed,
+                    Map<String, Integer> counts,
+                    Map<ConfigSource, Object> states) {
 
                 boolean isEmpty() {
                     return names.isEmpty() && secretNames.isEmpty() && indexed.isEmpty();
                 }
 
                 static Names empty() {
-                    return new Names(Collections.emptySet(), Collections.emptySet(), Collections.emptyMap());
+                    return new Names(Collections.emptySet(), Collections.emptySet(), Collections.emptyMap(), null, null);
+                }
+            }
+
+            private static final class NamesContext implements ConfigSourceInterceptorContext {
+                @Serial
+                private static final long serialVersionUID = -2650233826357340474L;
+
+                private final ConfigSourceInterceptorContext context;
+                private final transient Iterator<String> names;
+
+                NamesContext(final ConfigSourceInterceptorContext context, final Iterator<String> names) {
+                    this.context = context;
+                    this.names = names;
+                }
+
+                @Override
+                public ConfigValue proceed(final String name) {
+                    return context.proceed(name);
+                }
+
+                @Override
+                public ConfigValue restart(final String name) {
+                    return context.restart(name);
+                }
+
+                @Override
+                public Iterator<String> iterateNames() {
+                    return names;
                 }
             }
 
             private static class NamesIterable implements Iterable<String> {
                 private final Iterator<Set<String>> namesIterators;
+                private final Names base;
+                private final int baseSets;
 
                 public NamesIterable(final Names names) {
                     if (SecretKeys.isLocked()) {
@@ -1219,6 +2125,24 @@ public class SmallRyeConfig implements Config, Serializable {
                     } else {
                         this.namesIterators = List.of(names.names(), names.secretNames()).iterator();
                     }
+                    this.base = null;
+                    this.baseSets = 0;
+                }
+
+                /**
+                 * Iterates the names of a base configuration, followed by the names of a layered configuration that
+                 * are not in the base configuration.
+                 */
+                NamesIterable(final Names base, final Names layer) {
+                    if (SecretKeys.isLocked()) {
+                        this.namesIterators = List.of(base.names(), layer.names()).iterator();
+                        this.baseSets = 1;
+                    } else {
+                        this.namesIterators = List.of(base.names(), base.secretNames(), layer.names(), layer.secretNames())
+                                .iterator();
+                        this.baseSets = 2;
+                    }
+                    this.base = base;
                 }
 
                 @Override
@@ -1226,27 +2150,42 @@ public class SmallRyeConfig implements Config, Serializable {
                 public Iterator<String> iterator() {
                     return new Iterator<>() {
                         Iterator<String> current = namesIterators.next().iterator();
+                        int sets = 1;
+                        String next;
 
                         @Override
                         public boolean hasNext() {
-                            if (current.hasNext()) {
-                                return true;
-                            } else {
-                                if (namesIterators.hasNext()) {
+                            while (next == null) {
+                                if (current.hasNext()) {
+                                    String name = current.next();
+                                    if (sets <= baseSets || base == null || !isBaseName(name)) {
+                                        next = name;
+                                    }
+                                } else if (namesIterators.hasNext()) {
                                     current = namesIterators.next().iterator();
-                                    return current.hasNext();
+                                    sets++;
                                 } else {
                                     return false;
                                 }
                             }
+                            return true;
                         }
 
                         @Override
                         public String next() {
-                            return current.next();
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            String name = next;
+                            next = null;
+                            return name;
                         }
                     };
                 }
+
+                private boolean isBaseName(final String name) {
+                    return base.names().contains(name) || base.secretNames().contains(name);
+                }
             }
         }
     }
@@ -1284,6 +2223,7 @@ public class SmallRyeConfig implements Config, Serializable {
         private final ConfigSourceInterceptorContext context;
         private final List<String> profiles;
         private final List<ConfigSource> sources;
+        private ConfigSourceContextConfig config;
 
         public SmallRyeConfigSourceContext(
                 final ConfigSourceInterceptorContext context,
@@ -1314,6 +2254,23 @@ public class SmallRyeConfig implements Config, Serializable {
         public Iterator<String> iterateNames() {
             return context.iterateNames();
         }
+
+        @Override
+        public <T> Optional<T> getOptionalValue(final String name, final Class<T> type) {
+            return getConfig().getOptionalValue(name, type);
+        }
+
+        @Override
+        public <T> T getConfigMapping(final Class<T> type) {
+            return getConfig().getConfigMapping(type);
+        }
+
+        private synchronized ConfigSourceContextConfig getConfig() {
+            if (config == null) {
+                config = new ConfigSourceContextConfig(this);
+            }
+            return config;
+        }
     }
 
     private static class SmallRyeConfigSourceInterceptorContext implements ConfigSourceInterceptorContext {
@@ -41,10 +41,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
-import java.util.ServiceLoader;
 import java.util.Set;
-
-import jakarta.annotation.Priority;
+import java.util.concurrent.Executor;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.spi.ConfigBuilder;
@@ -85,6 +83,9 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     private boolean addDiscoveredSecretKeysHandlers = false;
     private boolean addDiscoveredValidator = false;
     private boolean cachePropertyNames = true;
+    private boolean reloadable = false;
+    private boolean snapshotSystemProperties = false;
+    private Executor changeExecutor;
 
     public SmallRyeConfigBuilder addDiscoveredCustomizers() {
         addDiscoveredCustomizers = true;
@@ -120,23 +121,18 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
 
     List<ConfigSource> discoverSources() {
         List<ConfigSource> discoveredSources = new ArrayList<>();
-        ServiceLoader<ConfigSource> configSourceLoader = ServiceLoader.load(ConfigSource.class, classLoader);
-        for (ConfigSource source : configSourceLoader) {
+        for (ConfigSource source : ServiceProviders.load(ConfigSource.class, classLoader)) {
             discoveredSources.add(source);
         }
 
         // load all ConfigSources from ConfigSourceProviders
-        ServiceLoader<ConfigSourceProvider> configSourceProviderLoader = ServiceLoader.load(ConfigSourceProvider.class,
-                classLoader);
-        for (ConfigSourceProvider configSourceProvider : configSourceProviderLoader) {
+        for (ConfigSourceProvider configSourceProvider : ServiceProviders.load(ConfigSourceProvider.class, classLoader)) {
             for (ConfigSource configSource : configSourceProvider.getConfigSources(classLoader)) {
                 discoveredSources.add(configSource);
             }
         }
 
-        ServiceLoader<ConfigSourceFactory> configSourceFactoryLoader = ServiceLoader.load(ConfigSourceFactory.class,
-                classLoader);
-        for (ConfigSourceFactory factory : configSourceFactoryLoader) {
+        for (ConfigSourceFactory factory : ServiceProviders.load(ConfigSourceFactory.class, classLoader)) {
             discoveredSources.add(new ConfigurableConfigSource(factory));
         }
 
@@ -145,7 +141,7 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
 
     List<Converter<?>> discoverConverters() {
         List<Converter<?>> discoveredConverters = new ArrayList<>();
-        for (Converter<?> converter : ServiceLoader.load(Converter.class, classLoader)) {
+        for (Converter<?> converter : ServiceProviders.load(Converter.class, classLoader)) {
             discoveredConverters.add(converter);
         }
         return discoveredConverters;
@@ -153,15 +149,13 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
 
     List<InterceptorWithPriority> discoverInterceptors() {
         List<InterceptorWithPriority> interceptors = new ArrayList<>();
-        ServiceLoader<ConfigSourceInterceptor> interceptorLoader = ServiceLoader.load(ConfigSourceInterceptor.class,
-                classLoader);
-        for (ConfigSourceInterceptor configSourceInterceptor : interceptorLoader) {
+        for (ConfigSourceInterceptor configSourceInterceptor : ServiceProviders.load(ConfigSourceInterceptor.class,
+                classLoader)) {
             interceptors.add(new InterceptorWithPriority(configSourceInterceptor));
         }
 
-        ServiceLoader<ConfigSourceInterceptorFactory> interceptorFactoryLoader = ServiceLoader
-                .load(ConfigSourceInterceptorFactory.class, classLoader);
-        for (ConfigSourceInterceptorFactory interceptor : interceptorFactoryLoader) {
+        for (ConfigSourceInterceptorFactory interceptor : ServiceProviders.load(ConfigSourceInterceptorFactory.class,
+                classLoader)) {
             interceptors.add(new InterceptorWithPriority(interceptor));
         }
 
@@ -169,12 +163,8 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     }
 
     ConfigValidator discoverValidator() {
-        ServiceLoader<ConfigValidator> validatorLoader = ServiceLoader.load(ConfigValidator.class, classLoader);
-        Iterator<ConfigValidator> iterator = validatorLoader.iterator();
-        if (iterator.hasNext()) {
-            return iterator.next();
-        }
-        return ConfigValidator.EMPTY;
+        ConfigValidator validator = ServiceProviders.loadFirst(ConfigValidator.class, classLoader);
+        return validator != null ? validator : ConfigValidator.EMPTY;
     }
 
     @Override
@@ -202,7 +192,7 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
 
     protected List<ConfigSource> getSystemSources() {
         List<ConfigSource> sources = new ArrayList<>();
-        sources.add(new SysPropConfigSource());
+        sources.add(snapshotSystemProperties ? new SnapshotSysPropConfigSource() : new SysPropConfigSource());
         sources.add(new EnvConfigSource());
         sources.addAll(new DotEnvConfigSourceProvider().getConfigSources(classLoader));
         return sources;
@@ -290,7 +280,7 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
                     }
                 }
 
-                return new RelocateConfigSourceInterceptor(relocations);
+                return new RelocateConfigSourceInterceptor(relocations, Collections.emptyMap());
             }
 
             @Override
@@ -379,16 +369,14 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
                 List<String> enabledHandlers = getEnabledHandlers(context);
 
                 List<SecretKeysHandler> discoveredHandlers = new ArrayList<>();
-                ServiceLoader<SecretKeysHandler> secretKeysHandlers = ServiceLoader.load(SecretKeysHandler.class, classLoader);
-                for (SecretKeysHandler secretKeysHandler : secretKeysHandlers) {
+                for (SecretKeysHandler secretKeysHandler : ServiceProviders.load(SecretKeysHandler.class, classLoader)) {
                     if (enabledHandlers.isEmpty() || enabledHandlers.contains(secretKeysHandler.getName())) {
                         discoveredHandlers.add(secretKeysHandler);
                     }
                 }
 
-                ServiceLoader<SecretKeysHandlerFactory> secretKeysHandlerFactories = ServiceLoader
-                        .load(SecretKeysHandlerFactory.class, classLoader);
-                for (SecretKeysHandlerFactory secretKeysHandlerFactory : secretKeysHandlerFactories) {
+                for (SecretKeysHandlerFactory secretKeysHandlerFactory : ServiceProviders.load(SecretKeysHandlerFactory.class,
+                        classLoader)) {
                     if (enabledHandlers.isEmpty() || enabledHandlers.contains(secretKeysHandlerFactory.getName())) {
                         discoveredHandlers.add(
                                 secretKeysHandlerFactory
@@ -448,6 +436,21 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return this;
     }
 
+    /**
+     * Discards the service providers and the configuration resources discovered in a {@link ClassLoader}.
+     * <p>
+     * The services discovered by a {@link SmallRyeConfigBuilder}, like {@link ConfigSource}, {@link Converter} or
+     * {@link ConfigSourceInterceptor}, and the resources found by the configuration locations, are cached per
+     * {@link ClassLoader} and shared by all builders. The next builder that uses the {@link ClassLoader} discovers the
+     * services and the resources again.
+     *
+     * @param classLoader the {@link ClassLoader}, or {@code null} for the system {@link ClassLoader}
+     */
+    public static void clearDiscoveredServices(ClassLoader classLoader) {
+        ServiceProviders.clear(classLoader);
+        ClassPathResources.clear(classLoader);
+    }
+
     public SmallRyeConfigBuilder withCustomizers(SmallRyeConfigBuilderCustomizer... customizers) {
         Collections.addAll(this.customizers, customizers);
         return this;
@@ -618,12 +621,7 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     }
 
     private static int getPriority(Converter<?> converter) {
-        int priority = 100;
-        Priority priorityAnnotation = converter.getClass().getAnnotation(Priority.class);
-        if (priorityAnnotation != null) {
-            priority = priorityAnnotation.value();
-        }
-        return priority;
+        return ServiceProviders.priority(converter.getClass()).orElse(100);
     }
 
     public List<ConfigSource> getSources() {
@@ -718,6 +716,18 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return cachePropertyNames;
     }
 
+    public boolean isReloadable() {
+        return reloadable;
+    }
+
+    public boolean isSnapshotSystemProperties() {
+        return snapshotSystemProperties;
+    }
+
+    public Executor getChangeExecutor() {
+        return changeExecutor;
+    }
+
     public SmallRyeConfigBuilder setAddDefaultSources(final boolean addDefaultSources) {
         this.addDefaultSources = addDefaultSources;
         return this;
@@ -768,10 +778,54 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return this;
     }
 
+    /**
+     * Builds a configuration that can be reloaded with {@link SmallRyeConfig#reload()}. A reloadable configuration
+     * keeps a reference to this builder, to build each new generation of the configuration. A reloadable configuration
+     * also keeps the state required to refresh the cached property names with only the names that changed in each
+     * source, in {@link SmallRyeConfig#getLatestPropertyNames()}.
+     *
+     * @param reloadable {@code true} to build a reloadable configuration
+     * @return this {@link SmallRyeConfigBuilder}
+     */
+    public SmallRyeConfigBuilder withReloadable(boolean reloadable) {
+        this.reloadable = reloadable;
+        return this;
+    }
+
+    /**
+     * Uses a {@link SnapshotSysPropConfigSource} for the system properties in {@link #addSystemSources()}, instead of
+     * a {@link SysPropConfigSource}. The snapshot serves the system properties names without copying all the system
+     * properties on each call, but only detects an added or removed system property when the number of system
+     * properties changes. A change in the value of an existing system property, or a removal and an addition between
+     * two calls, is only reflected in the names and properties of the source after a
+     * {@link SnapshotSysPropConfigSource#refresh()}. By default, the system properties are read on each call.
+     *
+     * @param snapshotSystemProperties {@code true} to keep the system properties in a snapshot
+     * @return this {@link SmallRyeConfigBuilder}
+     */
+    public SmallRyeConfigBuilder withSnapshotSystemProperties(boolean snapshotSystemProperties) {
+        this.snapshotSystemProperties = snapshotSystemProperties;
+        return this;
+    }
+
+    /**
+     * Sets the {@link Executor} to notify the listeners registered with
+     * {@link SmallRyeConfig#onChange(String, java.util.function.Consumer)}. By default, the listeners are notified in
+     * the {@link Executor} of the {@link SmallRyeConfig#reload(Executor)}.
+     *
+     * @param changeExecutor the {@link Executor} to notify the listeners of configuration changes
+     * @return this {@link SmallRyeConfigBuilder}
+     */
+    public SmallRyeConfigBuilder withChangeExecutor(Executor changeExecutor) {
+        this.changeExecutor = changeExecutor;
+        return this;
+    }
+
     @Override
     public SmallRyeConfig build() {
+        ConfigEvents.BuildPhase phase = ConfigEvents.beginBuildPhase("customizers");
         if (addDiscoveredCustomizers) {
-            for (SmallRyeConfigBuilderCustomizer customizer : ServiceLoader.load(SmallRyeConfigBuilderCustomizer.class,
+            for (SmallRyeConfigBuilderCustomizer customizer : ServiceProviders.load(SmallRyeConfigBuilderCustomizer.class,
                     classLoader)) {
                 customizers.add(customizer);
             }
@@ -786,6 +840,7 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         for (SmallRyeConfigBuilderCustomizer customizer : customizers) {
             customizer.configBuilder(this);
         }
+        phase.end(customizers.size());
 
         return new SmallRyeConfig(this);
     }
@@ -904,9 +959,9 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
 
         @SuppressWarnings("unchecked")
         private static int getPriority(final Class<? extends ConfigSourceInterceptor> klass) {
-            Priority priorityAnnotation = klass.getAnnotation(Priority.class);
-            if (priorityAnnotation != null) {
-                return priorityAnnotation.value();
+            OptionalInt priority = ServiceProviders.priority(klass);
+            if (priority.isPresent()) {
+                return priority.getAsInt();
             } else {
                 Class<?> parentClass = klass.getSuperclass();
                 if (ConfigSourceInterceptor.class.isAssignableFrom(parentClass)) {
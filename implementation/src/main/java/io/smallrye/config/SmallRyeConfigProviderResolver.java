@@ -17,12 +17,15 @@ package io.smallrye.config;
 
 import static io.smallrye.config.SecuritySupport.getContextClassLoader;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
 
@@ -34,7 +37,7 @@ import io.smallrye.config._private.ConfigMessages;
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
-    private final Map<ClassLoader, org.eclipse.microprofile.config.Config> configsForClassLoader = new ConcurrentHashMap<>();
+    private final ConfigsForClassLoader configsForClassLoader = new ConfigsForClassLoader();
 
     static final ClassLoader SYSTEM_CL;
 
@@ -69,18 +72,22 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
     @Override
     public Config getConfig(ClassLoader classLoader) {
         ClassLoader realClassLoader = getRealClassLoader(classLoader);
-        Map<ClassLoader, org.eclipse.microprofile.config.Config> configsForClassLoader = this.configsForClassLoader;
-        org.eclipse.microprofile.config.Config config = configsForClassLoader.get(realClassLoader);
+        ConfigHolder holder = configsForClassLoader.holder(realClassLoader);
+        org.eclipse.microprofile.config.Config config = holder.config;
         if (config == null) {
-            synchronized (configsForClassLoader) {
-                config = configsForClassLoader.get(realClassLoader);
+            // only blocks threads creating the Config for the same ClassLoader
+            synchronized (holder) {
+                config = holder.config;
                 if (config == null) {
                     config = getFactoryFor(realClassLoader, false).getConfigFor(this, classLoader);
                     // don't cache null, as that would leak class loaders
                     if (config == null) {
                         throw ConfigMessages.msg.noConfigForClassloader();
                     }
-                    configsForClassLoader.put(realClassLoader, config);
+                    // a Config may have been registered meanwhile
+                    if (!holder.compareAndSet(null, config)) {
+                        config = holder.config;
+                    }
                 }
             }
         }
@@ -105,7 +112,8 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
      */
     public SmallRyeConfig get(ClassLoader classLoader) {
         ClassLoader realClassLoader = getRealClassLoader(classLoader);
-        org.eclipse.microprofile.config.Config config = configsForClassLoader.get(realClassLoader);
+        ConfigHolder holder = configsForClassLoader.get(realClassLoader);
+        org.eclipse.microprofile.config.Config config = holder != null ? holder.config : null;
         if (config == null) {
             throw ConfigMessages.msg.noConfigForClassloader();
         }
@@ -138,12 +146,8 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
             throw ConfigMessages.msg.configIsNull();
         }
         ClassLoader realClassLoader = getRealClassLoader(classLoader);
-        Map<ClassLoader, org.eclipse.microprofile.config.Config> configsForClassLoader = this.configsForClassLoader;
-        synchronized (configsForClassLoader) {
-            org.eclipse.microprofile.config.Config existing = configsForClassLoader.putIfAbsent(realClassLoader, config);
-            if (existing != null) {
-                throw ConfigMessages.msg.configAlreadyRegistered();
-            }
+        if (!configsForClassLoader.holder(realClassLoader).compareAndSet(null, config)) {
+            throw ConfigMessages.msg.configAlreadyRegistered();
         }
     }
 
@@ -151,24 +155,14 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
     public void releaseConfig(org.eclipse.microprofile.config.Config config) {
         // todo: see https://github.com/eclipse/microprofile-config/issues/136#issuecomment-535962313
         // todo: see https://github.com/eclipse/microprofile-config/issues/471
-        Map<ClassLoader, org.eclipse.microprofile.config.Config> configsForClassLoader = this.configsForClassLoader;
-        synchronized (configsForClassLoader) {
-            // let's avoid a lambda here as it is called on startup
-            Iterator<Map.Entry<ClassLoader, org.eclipse.microprofile.config.Config>> it = configsForClassLoader.entrySet()
-                    .iterator();
-            while (it.hasNext()) {
-                if (it.next().getValue() == config) {
-                    it.remove();
-                }
-            }
-        }
+        configsForClassLoader.release(config);
     }
 
     public void releaseConfig(ClassLoader classLoader) {
         ClassLoader realClassLoader = getRealClassLoader(classLoader);
-        Map<ClassLoader, org.eclipse.microprofile.config.Config> configsForClassLoader = this.configsForClassLoader;
-        synchronized (configsForClassLoader) {
-            configsForClassLoader.remove(realClassLoader);
+        ConfigHolder holder = configsForClassLoader.get(realClassLoader);
+        if (holder != null) {
+            holder.config = null;
         }
     }
 
@@ -181,4 +175,91 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
         }
         return classLoader;
     }
+
+    /**
+     * A registry of {@link org.eclipse.microprofile.config.Config} by {@link ClassLoader}, that does not block readers.
+     * <p>
+     * Each {@link ClassLoader} is weakly referenced and gets a {@link ConfigHolder}, which is never removed while the
+     * {@link ClassLoader} is reachable. Registering or releasing a {@link org.eclipse.microprofile.config.Config} only
+     * swaps the value of the holder, and holders of collected class loaders are expunged on the next registry miss.
+     * A {@link org.eclipse.microprofile.config.Config} that is not released, and that references its own
+     * {@link ClassLoader}, still keeps the {@link ClassLoader} reachable.
+     */
+    static final class ConfigsForClassLoader {
+        private final ConcurrentHashMap<ClassLoaderKey, ConfigHolder> holders = new ConcurrentHashMap<>();
+        private final ReferenceQueue<ClassLoader> queue = new ReferenceQueue<>();
+
+        ConfigHolder get(final ClassLoader classLoader) {
+            return holders.get(new ClassLoaderKey(classLoader, null));
+        }
+
+        ConfigHolder holder(final ClassLoader classLoader) {
+            ConfigHolder holder = get(classLoader);
+            if (holder == null) {
+                expunge();
+                ConfigHolder newHolder = new ConfigHolder(new ClassLoaderKey(classLoader, queue));
+                holder = holders.putIfAbsent(newHolder.key, newHolder);
+                if (holder == null) {
+                    holder = newHolder;
+                }
+            }
+            return holder;
+        }
+
+        void release(final org.eclipse.microprofile.config.Config config) {
+            for (ConfigHolder holder : holders.values()) {
+                holder.compareAndSet(config, null);
+            }
+        }
+
+        private void expunge() {
+            Reference<? extends ClassLoader> reference;
+            while ((reference = queue.poll()) != null) {
+                holders.remove(reference);
+            }
+        }
+    }
+
+    static final class ConfigHolder {
+        private static final AtomicReferenceFieldUpdater<ConfigHolder, org.eclipse.microprofile.config.Config> CONFIG_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(ConfigHolder.class, org.eclipse.microprofile.config.Config.class, "config");
+
+        private final ClassLoaderKey key;
+        volatile org.eclipse.microprofile.config.Config config;
+
+        ConfigHolder(final ClassLoaderKey key) {
+            this.key = key;
+        }
+
+        boolean compareAndSet(final org.eclipse.microprofile.config.Config expect,
+                final org.eclipse.microprofile.config.Config update) {
+            return CONFIG_UPDATER.compareAndSet(this, expect, update);
+        }
+    }
+
+    static final class ClassLoaderKey extends WeakReference<ClassLoader> {
+        private final int hashCode;
+
+        ClassLoaderKey(final ClassLoader classLoader, final ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            this.hashCode = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ClassLoaderKey)) {
+                return false;
+            }
+            ClassLoader classLoader = get();
+            return classLoader != null && classLoader == ((ClassLoaderKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
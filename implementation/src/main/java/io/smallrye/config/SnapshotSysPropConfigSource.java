@@ -0,0 +1,130 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.common.utils.ConfigSourceUtil.propertiesToMap;
+import static java.security.AccessController.doPrivileged;
+import static java.util.Collections.unmodifiableMap;
+
+import java.io.Serial;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * A {@link SysPropConfigSource} that serves the system properties names and properties from a snapshot, instead of
+ * copying all the system properties on each call.
+ * <p>
+ * The snapshot is taken on first use, and taken again when the system properties are replaced with
+ * {@link System#setProperties(Properties)}, or when a system property is added or removed, which is detected by a
+ * change in the number of system properties. A change in the value of an existing system property, or an addition and
+ * a removal between two calls, is not detected, and requires an explicit {@link #refresh()}. Values are always read
+ * directly from the system properties, so {@link #getValue(String)} never returns a stale value.
+ * <p>
+ * Each snapshot with different names increments the {@link #getNamesVersion()}, so the names cache of
+ * {@link SmallRyeConfig} only resolves the names that changed.
+ * <p>
+ * The default system sources only use this source with
+ * {@link SmallRyeConfigBuilder#withSnapshotSystemProperties(boolean)}.
+ */
+public class SnapshotSysPropConfigSource extends SysPropConfigSource implements ChangeTrackingConfigSource {
+    @Serial
+    private static final long serialVersionUID = 3546418529418245107L;
+
+    private transient volatile Snapshot snapshot;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return snapshot().properties();
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return snapshot().properties().keySet();
+    }
+
+    @Override
+    public long getNamesVersion() {
+        return snapshot().version();
+    }
+
+    @Override
+    public NamesDelta getNamesDelta(final long version) {
+        Snapshot snapshot = snapshot();
+        if (version == snapshot.version()) {
+            return new NamesDelta(version, Collections.emptySet(), Collections.emptySet());
+        }
+        // only the changes from the previous snapshot are kept
+        return version == snapshot.version() - 1 ? snapshot.delta() : null;
+    }
+
+    /**
+     * Takes a new snapshot of the system properties, to pick up changes that are not detected automatically, like a
+     * change in the value of an existing system property.
+     */
+    public void refresh() {
+        synchronized (this) {
+            snapshot = snapshot(systemProperties(), snapshot);
+        }
+    }
+
+    private Snapshot snapshot() {
+        Properties properties = systemProperties();
+        Snapshot snapshot = this.snapshot;
+        if (snapshot == null || !snapshot.isCurrent(properties)) {
+            synchronized (this) {
+                snapshot = this.snapshot;
+                if (snapshot == null || !snapshot.isCurrent(properties)) {
+                    snapshot = snapshot(properties, snapshot);
+                    this.snapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private static Snapshot snapshot(final Properties source, final Snapshot previous) {
+        // read the size before the copy; a change during the copy is then detected by the next call
+        int size = source.size();
+        Map<String, String> properties = unmodifiableMap(propertiesToMap(source));
+        if (previous == null) {
+            return new Snapshot(source, size, properties, 0, null);
+        }
+
+        Set<String> names = properties.keySet();
+        Set<String> previousNames = previous.properties().keySet();
+        if (names.equals(previousNames)) {
+            return new Snapshot(source, size, properties, previous.version(), previous.delta());
+        }
+        Set<String> added = new HashSet<>(names);
+        added.removeAll(previousNames);
+        Set<String> removed = new HashSet<>(previousNames);
+        removed.removeAll(names);
+        long version = previous.version() + 1;
+        return new Snapshot(source, size, properties, version, new NamesDelta(version, added, removed));
+    }
+
+    private static Properties systemProperties() {
+        if (System.getSecurityManager() == null) {
+            return System.getProperties();
+        } else {
+            return doPrivileged((PrivilegedAction<Properties>) System::getProperties);
+        }
+    }
+
+    /**
+     * A snapshot of the system properties.
+     *
+     * @param source the system properties instance the snapshot was taken from
+     * @param size the number of system properties when the snapshot was taken
+     * @param properties the copy of the system properties
+     * @param version the version of the names
+     * @param delta the changes to the names from the previous version, or {@code null} for the first version
+     */
+    private record Snapshot(Properties source, int size, Map<String, String> properties, long version, NamesDelta delta) {
+        boolean isCurrent(final Properties properties) {
+            return source == properties && size == properties.size();
+        }
+    }
+}
@@ -52,4 +52,28 @@ public interface ConfigLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     @Message(id = 1008, value = "The value %s has been converted by a Boolean Converter to \"false\"")
     void booleanConversionFalse(String value);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1009, value = "Unable to load %s, using the cached content")
+    void httpLocationFallbackToCache(@Cause Throwable cause, String location);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1010, value = "Unable to cache the content of %s in %s")
+    void httpLocationCacheFailure(@Cause Throwable cause, String location, String cacheDir);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1011, value = "Unable to refresh the content of %s")
+    void httpLocationRefreshFailure(@Cause Throwable cause, String location);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1012, value = "A listener of the configuration changes failed to handle the change of %s")
+    void changeListenerFailure(@Cause Throwable cause, String name);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1013, value = "Unable to decode a batch of secrets with the SecretKeysHandler %s")
+    void batchSecretsFailure(@Cause Throwable cause, String handler);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1014, value = "Unable to compare the value of %s after a reload, the change is not notified")
+    void changeLookupFailure(@Cause Throwable cause, String name);
 }
@@ -214,4 +214,13 @@ public interface ConfigMessages {
 
     @Message(id = 57, value = "Class %s is not recognized as a config class")
     IllegalStateException classNotRecognizedAsConfigClass(Class<?> type);
+
+    @Message(id = 58, value = "The configuration is not reloadable. Build the configuration with SmallRyeConfigBuilder#withReloadable(true) to reload it")
+    IllegalStateException configNotReloadable();
+
+    @Message(id = 59, value = "Expression expansion of %s has a cycle: %s")
+    IllegalArgumentException expressionExpansionCycle(String name, String cycle);
+
+    @Message(id = 60, value = "Could not find the secret %s with the secret key handler %s")
+    NoSuchElementException secretNotFound(String secret, String handler);
 }
@@ -8,6 +8,9 @@ module io.smallrye.config {
 
     requires jakarta.annotation;
 
+    requires static java.net.http;
+    requires static jdk.jfr;
+
     requires transitive org.eclipse.microprofile.config;
 
     requires org.jboss.logging;
@@ -0,0 +1,68 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+
+class ConfigEventsTest {
+    @Test
+    void events() throws Exception {
+        Path file = Files.createTempFile("config-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.smallrye.config.BuildPhase");
+            recording.enable("io.smallrye.config.Lookup");
+            recording.start();
+
+            SmallRyeConfig config = new SmallRyeConfigBuilder()
+                    .addDefaultInterceptors()
+                    .withSources(config("my.prop", "1234", "expression", "${my.prop}"))
+                    .withMapping(Events.class)
+                    .build();
+            assertEquals("1234", config.getRawValue("expression"));
+            assertEquals("1234", config.getConfigMapping(Events.class).prop());
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Set<String> phases = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("io.smallrye.config.BuildPhase"))
+                    .map(event -> event.getString("phase"))
+                    .collect(Collectors.toSet());
+            assertTrue(phases.containsAll(Set.of("customizers", "sources", "interceptors", "late-sources",
+                    "env-matching", "converters", "mappings", "unknown-properties")), phases.toString());
+
+            RecordedEvent lookup = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("io.smallrye.config.Lookup"))
+                    .filter(event -> "expression".equals(event.getString("name")))
+                    .findFirst()
+                    .orElseThrow();
+            assertTrue(lookup.getBoolean("found"));
+            assertTrue(lookup.getBoolean("expanded"));
+            assertTrue(lookup.getString("configSource").startsWith("KeyValuesConfigSource"));
+            assertFalse(events.stream()
+                    .filter(event -> event.getEventType().getName().equals("io.smallrye.config.Lookup"))
+                    .anyMatch(event -> event.getFields().stream().anyMatch(field -> field.getName().equals("value"))));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @ConfigMapping(prefix = "my")
+    interface Events {
+        String prop();
+    }
+}
@@ -0,0 +1,74 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+class ConfigKeyTest {
+    @Test
+    void key() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("http.port", "8080", "%prod.http.port", "${http.prod.port}", "http.prod.port", "80",
+                        "http.hosts", "one,two", "http.invalid", "invalid"))
+                .withProfile("prod")
+                .build();
+
+        ConfigKey<Integer> port = config.key("http.port", int.class);
+        assertEquals("http.port", port.getName());
+        assertEquals(int.class, port.getType());
+        assertEquals(80, port.get());
+        assertEquals(80, port.get());
+        assertEquals(80, port.getOptional().orElseThrow());
+
+        assertArrayEquals(new String[] { "one", "two" }, config.key("http.hosts", String[].class).get());
+
+        ConfigKey<Integer> missing = config.key("http.missing", Integer.class);
+        assertFalse(missing.getOptional().isPresent());
+        assertThrows(NoSuchElementException.class, missing::get);
+        assertEquals(9000, config.key("http.missing", Integer.class, "9000").get());
+
+        assertThrows(IllegalArgumentException.class, () -> config.key("http.invalid", Integer.class).get());
+        assertThrows(IllegalArgumentException.class, () -> config.key("http.missing", Integer.class, "invalid"));
+    }
+
+    @Test
+    void reload() {
+        AtomicReference<String> value = new AtomicReference<>("8080");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources((ConfigSourceFactory) context -> List
+                        .of(new PropertiesConfigSource(Map.of("http.port", value.get()), "reload", 100)))
+                .withReloadable(true)
+                .build();
+
+        ConfigKey<Integer> port = config.key("http.port", Integer.class);
+        assertEquals(8080, port.get());
+
+        value.set("9090");
+        assertEquals(8080, port.get());
+        config.reload().join();
+        assertEquals(9090, port.get());
+    }
+
+    @Test
+    void secret() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("secret", "12345678"))
+                .withSecretKeys("secret")
+                .build();
+
+        ConfigKey<String> secret = config.key("secret", String.class);
+        assertEquals("12345678", SecretKeys.doUnlocked(() -> secret.get()));
+        assertThrows(SecurityException.class, secret::get);
+    }
+}
@@ -0,0 +1,131 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.jupiter.api.Test;
+
+class ConfigMappingLazyConversionTest {
+    @Test
+    void lazyConversion() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(Server.class)
+                .withSources(config("server.host", "localhost", "server.port", "8080", "server.secure", "true",
+                        "server.threads", "10", "server.ratio", "0.5", "server.timeout", "PT10S",
+                        "server.log.enabled", "true", "server.aliases", "a,b"))
+                .build();
+
+        Server server = config.getConfigMapping(Server.class);
+        assertEquals("localhost", server.host());
+        assertEquals(8080, server.port());
+        assertTrue(server.secure());
+        assertEquals(10, server.threads());
+        assertEquals(0.5, server.ratio());
+        assertEquals(Duration.ofSeconds(10), server.timeout());
+        assertEquals(Optional.empty(), server.name());
+        assertEquals(Optional.empty(), server.weight());
+        assertEquals("info", server.level());
+        assertTrue(server.log().enabled());
+        assertEquals(List.of("a", "b"), server.aliases());
+
+        Server other = new SmallRyeConfigBuilder()
+                .withMapping(Server.class)
+                .withSources(config("server.host", "localhost", "server.port", "8080", "server.secure", "true",
+                        "server.threads", "10", "server.ratio", "0.5", "server.timeout", "PT10S",
+                        "server.log.enabled", "true", "server.aliases", "a,b"))
+                .build()
+                .getConfigMapping(Server.class);
+        assertEquals(server, other);
+        assertEquals(server.hashCode(), other.hashCode());
+        assertTrue(server.toString().contains("port=8080"));
+    }
+
+    @Test
+    void conversionOnFirstCall() {
+        Counting.conversions.set(0);
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(Counted.class)
+                .withSources(config("counted.value", "1234", "counted.invalid", "not-a-number"))
+                .build();
+
+        Counted counted = config.getConfigMapping(Counted.class);
+        assertEquals(0, Counting.conversions.get());
+        assertEquals(1234, counted.value());
+        assertEquals(1234, counted.value());
+        assertEquals(1, Counting.conversions.get());
+
+        // the invalid value is only reported by the call
+        assertThrows(IllegalArgumentException.class, counted::invalid);
+        assertThrows(IllegalArgumentException.class, counted::invalid);
+    }
+
+    @Test
+    void requiredOnStartup() {
+        ConfigValidationException exception = assertThrows(ConfigValidationException.class,
+                () -> new SmallRyeConfigBuilder()
+                        .withMapping(Counted.class)
+                        .withSources(config("counted.invalid", "1"))
+                        .build());
+        assertEquals(1, exception.getProblemCount());
+        assertTrue(exception.getProblem(0).getMessage().contains("counted.value"));
+    }
+
+    @ConfigMapping(prefix = "server", lazyConversion = true)
+    interface Server {
+        String host();
+
+        int port();
+
+        boolean secure();
+
+        Integer threads();
+
+        double ratio();
+
+        Duration timeout();
+
+        Optional<String> name();
+
+        Optional<Integer> weight();
+
+        @WithDefault("info")
+        String level();
+
+        Log log();
+
+        List<String> aliases();
+
+        @Override
+        String toString();
+
+        interface Log {
+            boolean enabled();
+        }
+    }
+
+    @ConfigMapping(prefix = "counted", lazyConversion = true)
+    interface Counted {
+        @WithConverter(Counting.class)
+        Integer value();
+
+        int invalid();
+    }
+
+    public static class Counting implements Converter<Integer> {
+        static final AtomicInteger conversions = new AtomicInteger();
+
+        @Override
+        public Integer convert(final String value) {
+            conversions.incrementAndGet();
+            return Integer.valueOf(value);
+        }
+    }
+}
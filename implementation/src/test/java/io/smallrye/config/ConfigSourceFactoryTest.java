@@ -3,11 +3,14 @@ package io.smallrye.config;
 import static io.smallrye.config.KeyValuesConfigSource.config;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.junit.jupiter.api.Test;
@@ -102,4 +105,33 @@ public class ConfigSourceFactoryTest {
             return List.of();
         }
     }
+
+    @Test
+    void contextMapping() {
+        ContextMappingConfigSourceFactory first = new ContextMappingConfigSourceFactory();
+        ContextMappingConfigSourceFactory second = new ContextMappingConfigSourceFactory();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("count.size", "3", "count.unknown", "unknown", "context.value", "${count.size}",
+                        SmallRyeConfig.SMALLRYE_CONFIG_MAPPING_VALIDATE_UNKNOWN, "true"))
+                .withSources(first, second)
+                .build();
+
+        assertEquals(3, config.getValue("context.mapping", int.class));
+        assertEquals(3, first.count.size());
+        assertSame(first.count, second.count);
+    }
+
+    static class ContextMappingConfigSourceFactory implements ConfigSourceFactory {
+        Count count;
+
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ConfigSourceContext context) {
+            count = context.getConfigMapping(Count.class);
+            assertEquals(3, context.getValue("context.value", int.class));
+            assertEquals(Optional.empty(), context.getOptionalValue("context.missing", int.class));
+            assertTrue(context.getOptionalValue("context.value", Integer.class).isPresent());
+            return List.of(new PropertiesConfigSource(Map.of("context.mapping", count.size() + ""), "", 100));
+        }
+    }
 }
@@ -0,0 +1,85 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.ConfigValidationException.Problem;
+
+class ConfigValueTableTest {
+    @Test
+    void table() {
+        Map<String, ConfigValue> properties = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            properties.put("key" + i, ConfigValue.builder()
+                    .withName("key" + i)
+                    .withValue("value" + i)
+                    .withRawValue("value" + i)
+                    .withConfigSourceName("source")
+                    .withConfigSourceOrdinal(10)
+                    .withLineNumber(i + 1)
+                    .build());
+        }
+        ConfigValue profiled = ConfigValue.builder()
+                .withName("profiled")
+                .withValue("value")
+                .withRawValue("${expression}")
+                .withProfile("prod")
+                .withConfigSourceName("source")
+                .withConfigSourceOrdinal(10)
+                .build();
+        properties.put("%prod.profiled", profiled);
+        ConfigValue problem = ConfigValue.builder()
+                .withName("problem")
+                .withConfigSourceName("source")
+                .withProblems(List.of(new Problem("problem")))
+                .build();
+        properties.put("problem", problem);
+
+        ConfigValueTable table = new ConfigValueTable("source", 100, properties);
+
+        assertEquals(properties.size(), table.size());
+        assertEquals(properties.keySet(), table.keySet());
+        for (Map.Entry<String, ConfigValue> entry : properties.entrySet()) {
+            ConfigValue expected = entry.getValue().from().withConfigSourceOrdinal(100).build();
+            ConfigValue actual = table.get(entry.getKey());
+            assertEquals(expected, actual);
+            assertEquals(expected.getLineNumber(), actual.getLineNumber());
+            assertEquals(expected.getProblems(), actual.getProblems());
+        }
+        assertEquals("key10", table.get("key10").getName());
+        assertEquals(11, table.get("key10").getLineNumber());
+        assertEquals("prod", table.get("%prod.profiled").getProfile());
+        assertTrue(table.get("problem").hasProblems());
+        assertSame(table.get("key10"), table.get("key10"));
+        assertEquals("value10", table.getValue("key10"));
+        assertNull(table.getValue("key1000"));
+
+        assertTrue(table.containsKey("key999"));
+        assertFalse(table.containsKey("key1000"));
+        assertNull(table.get("key1000"));
+        assertNull(table.get(null));
+        assertEquals(properties.size(), table.entrySet().size());
+        assertEquals(properties.size(), table.entrySet().stream().count());
+
+        assertThrows(UnsupportedOperationException.class, () -> table.put("key", profiled));
+    }
+
+    @Test
+    void empty() {
+        ConfigValueTable table = new ConfigValueTable("source", 100, Map.of());
+
+        assertTrue(table.isEmpty());
+        assertNull(table.get("key"));
+        assertFalse(table.keySet().iterator().hasNext());
+    }
+}
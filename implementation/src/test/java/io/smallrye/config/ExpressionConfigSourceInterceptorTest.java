@@ -8,7 +8,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -107,6 +109,43 @@ class ExpressionConfigSourceInterceptorTest {
                 "Recursive expression expansion is too deep for my.prop");
     }
 
+    @Test
+    void expansionCycle() {
+        SmallRyeConfig config = buildConfig("a", "${b}", "b", "prefix-${c}", "c", "${a}");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> config.getConfigValue("a").getValue());
+        assertTrue(exception.getMessage().contains("a -> b -> c -> a"), exception.getMessage());
+    }
+
+    @Test
+    void sharedReferencesResolvedOnce() {
+        Map<String, Integer> lookups = new HashMap<>();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "url", "${scheme}://${host}:${port}/${host}",
+                        "scheme", "http",
+                        "host", "${env}.${domain}",
+                        "port", "${base.port}",
+                        "env", "dev",
+                        "domain", "acme.org",
+                        "base.port", "8080"), "test", 100) {
+                    @Override
+                    public ConfigValue getConfigValue(final String propertyName) {
+                        lookups.merge(propertyName, 1, Integer::sum);
+                        return super.getConfigValue(propertyName);
+                    }
+                })
+                .build();
+
+        lookups.clear();
+        assertEquals("http://dev.acme.org:8080/dev.acme.org", config.getRawValue("url"));
+        assertEquals(1, lookups.get("host"));
+        assertEquals(1, lookups.get("env"));
+        assertEquals(1, lookups.get("domain"));
+    }
+
     @Test
     void withoutExpansion() {
         SmallRyeConfig config = buildConfig("my.prop", "1234", "expression", "${my.prop}");
@@ -3,6 +3,8 @@ package io.smallrye.config;
 import static io.smallrye.config.KeyValuesConfigSource.config;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -72,6 +74,23 @@ class ImplicitConverterTest {
                 "Converted values to have same file path");
     }
 
+    @Test
+    void serializationOfHyphenateEnumConverter() throws Exception {
+        HyphenateEnumConverter<MyEnum> converter = new HyphenateEnumConverter<>(MyEnum.class);
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(byteArrayOutputStream)) {
+            out.writeObject(converter);
+        }
+        Object readObject;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            readObject = in.readObject();
+        }
+        Converter<?> deserialized = (Converter<?>) readObject;
+        assertEquals(MyEnum.READ_UNCOMMITTED, deserialized.convert("read-uncommitted"));
+        assertEquals(MyEnum.TrendBreaker, deserialized.convert("TrendBreaker"));
+    }
+
     enum MyEnum {
         DISCARD,
         A_B,
@@ -224,4 +243,30 @@ class ImplicitConverterTest {
 
         assertEquals(Locale.forLanguageTag("PT"), config.getValue("locale", Locale.class));
     }
+
+    @Test
+    void implicitConvertersAreCached() {
+        assertSame(Converters.Implicit.getConverter(LocalDate.class), Converters.Implicit.getConverter(LocalDate.class));
+        assertSame(Converters.Implicit.getConverter(File.class), Converters.Implicit.getConverter(File.class));
+        assertNull(Converters.Implicit.getConverter(Object.class));
+        assertNull(Converters.Implicit.getConverter(Object.class));
+    }
+
+    @Test
+    void implicitConverterFailure() {
+        Converter<LocalDate> converter = Converters.Implicit.getConverter(LocalDate.class);
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("not-a-date"));
+        assertEquals(LocalDate.of(2019, 4, 1), converter.convert("2019-04-01"));
+    }
+
+    @Test
+    void convertEnumSpellings() {
+        HyphenateEnumConverter<MyEnum> converter = new HyphenateEnumConverter<>(MyEnum.class);
+        assertEquals(MyEnum.READ_UNCOMMITTED, converter.convert("read_uncommitted"));
+        assertEquals(MyEnum.READ_UNCOMMITTED, converter.convert("READ-UNCOMMITTED"));
+        assertEquals(MyEnum.READ_UNCOMMITTED, converter.convert(" read-uncommitted "));
+        assertEquals(MyEnum.TrendBreaker, converter.convert("TREND-BREAKER"));
+        assertNull(converter.convert(" "));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("TRENDBREAKER"));
+    }
 }
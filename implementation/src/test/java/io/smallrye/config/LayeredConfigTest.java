@@ -0,0 +1,163 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.common.MapBackedConfigSource;
+
+class LayeredConfigTest {
+    @Test
+    void layer() {
+        PropertiesConfigSource base = new PropertiesConfigSource(
+                Map.of("my.prop", "base", "my.other", "other", "my.expression", "${my.prop}"), "base", 100);
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(base)
+                .build();
+
+        PropertiesConfigSource override = new PropertiesConfigSource(
+                Map.of("my.prop", "tenant", "my.tenant", "tenant"), "tenant", 100);
+        SmallRyeConfig tenant = config.layer(override);
+
+        assertEquals("tenant", tenant.getRawValue("my.prop"));
+        assertEquals("other", tenant.getRawValue("my.other"));
+        assertEquals("tenant", tenant.getRawValue("my.tenant"));
+        assertEquals("tenant", tenant.getRawValue("my.expression"));
+        assertEquals(override.getName(), tenant.getConfigValue("my.prop").getConfigSourceName());
+
+        // base is untouched
+        assertEquals("base", config.getRawValue("my.prop"));
+        assertEquals("base", config.getRawValue("my.expression"));
+        assertNull(config.getRawValue("my.tenant"));
+
+        List<ConfigSource> sources = StreamSupport.stream(tenant.getConfigSources().spliterator(), false).toList();
+        assertSame(override, sources.get(0));
+        assertSame(base, sources.get(1));
+    }
+
+    @Test
+    void ordinal() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of("my.prop", "base"), "base", 200))
+                .build();
+
+        SmallRyeConfig tenant = config.layer(new PropertiesConfigSource(Map.of("my.prop", "tenant"), "tenant", 100));
+        assertEquals("base", tenant.getRawValue("my.prop"));
+    }
+
+    @Test
+    void profiles() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(Map.of("my.prop", "base", "%dev.my.prop", "dev"), "base", 100))
+                .withProfile("dev")
+                .build();
+
+        SmallRyeConfig tenant = config.layer(
+                new PropertiesConfigSource(Map.of("my.prop", "tenant", "%dev.my.profile", "dev"), "tenant", 200));
+
+        assertEquals(List.of("dev"), tenant.getProfiles());
+        assertEquals("dev", config.getRawValue("my.prop"));
+        assertEquals("tenant", tenant.getRawValue("my.prop"));
+        assertEquals("dev", tenant.getRawValue("my.profile"));
+    }
+
+    @Test
+    void names() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(Map.of("my.prop", "base", "my.list[0]", "0"), "base", 100))
+                .build();
+        // populate the names cache of the base configuration
+        assertTrue(config.isPropertyPresent("my.prop"));
+        Set<String> baseNames = names(config);
+
+        SmallRyeConfig tenant = config.layer(new PropertiesConfigSource(
+                Map.of("my.prop", "tenant", "my.tenant", "tenant", "my.list[1]", "1"), "tenant", 100));
+
+        Set<String> names = names(tenant);
+        assertTrue(names.containsAll(baseNames));
+        assertTrue(names.contains("my.tenant"));
+        assertTrue(names.contains("my.list[1]"));
+        assertFalse(names(config).contains("my.tenant"));
+        assertEquals(List.of("0", "1"), tenant.getValues("my.list", String.class));
+        assertEquals(List.of("0"), config.getValues("my.list", String.class));
+
+        SmallRyeConfig tenantOfTenant = tenant.layer(new PropertiesConfigSource(Map.of("my.other", "other"), "other", 100));
+        assertTrue(names(tenantOfTenant).containsAll(Set.of("my.prop", "my.tenant", "my.other")));
+    }
+
+    @Test
+    void sharedNames() {
+        Map<String, String> properties = new HashMap<>(Map.of("my.prop", "base"));
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new MapBackedConfigSource("base", properties) {
+                })
+                .build();
+        SmallRyeConfig tenant = config.layer(new PropertiesConfigSource(Map.of("my.tenant", "tenant"), "tenant", 100));
+        assertEquals(Set.of("my.prop", "my.tenant"), names(tenant));
+
+        // the layered configuration reads the names of the base configuration, instead of keeping a copy
+        properties.put("my.other", "other");
+        assertFalse(names(tenant).contains("my.other"));
+        config.getLatestPropertyNames();
+        assertEquals(Set.of("my.prop", "my.other", "my.tenant"), names(tenant));
+    }
+
+    @Test
+    void mappings() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of("tenant.name", "base", "tenant.port", "8080"), "base", 100))
+                .withMapping(Tenant.class)
+                .build();
+
+        SmallRyeConfig tenant = config.layer(new PropertiesConfigSource(Map.of("tenant.name", "tenant"), "tenant", 100));
+
+        assertEquals("tenant", tenant.getConfigMapping(Tenant.class).name());
+        assertEquals(8080, tenant.getConfigMapping(Tenant.class).port());
+        assertEquals("base", config.getConfigMapping(Tenant.class).name());
+
+        assertThrows(ConfigValidationException.class,
+                () -> config.layer(new PropertiesConfigSource(Map.of("tenant.port", "http"), "tenant", 100)));
+    }
+
+    @Test
+    void notReloadable() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of("my.prop", "base"), "base", 100))
+                .withReloadable(true)
+                .build();
+
+        SmallRyeConfig tenant = config.layer(new PropertiesConfigSource(Map.of("my.prop", "tenant"), "tenant", 100));
+        assertEquals(config.getGeneration(), tenant.getGeneration());
+        assertThrows(IllegalStateException.class, tenant::reload);
+    }
+
+    private static Set<String> names(final SmallRyeConfig config) {
+        return StreamSupport.stream(config.getPropertyNames().spliterator(), false)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @ConfigMapping(prefix = "tenant")
+    interface Tenant {
+        String name();
+
+        int port();
+    }
+}
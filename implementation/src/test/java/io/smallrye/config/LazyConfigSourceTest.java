@@ -0,0 +1,113 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LazyConfigSourceTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void lazy() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyConfigSource source = new LazyConfigSource("lazy", 100, () -> {
+            loads.incrementAndGet();
+            return new PropertiesConfigSource(Map.of("my.prop", "1234"), "lazy", 100);
+        });
+
+        assertEquals("lazy", source.getName());
+        assertEquals(100, source.getOrdinal());
+        assertFalse(source.isLoaded());
+
+        assertEquals("1234", source.getValue("my.prop"));
+        assertEquals(Set.of("my.prop"), source.getPropertyNames());
+        assertTrue(source.isLoaded());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void names() {
+        LazyConfigSource source = new LazyConfigSource("lazy", 100, Set.of("my.prop"),
+                () -> new PropertiesConfigSource(Map.of("my.prop", "1234"), "lazy", 100));
+
+        assertNull(source.getValue("other.prop"));
+        assertEquals(Set.of("my.prop"), source.getPropertyNames());
+        assertFalse(source.isLoaded());
+
+        assertEquals("1234", source.getConfigValue("my.prop").getValue());
+        assertTrue(source.isLoaded());
+    }
+
+    @Test
+    void failure() {
+        LazyConfigSource source = new LazyConfigSource("lazy", 100, () -> {
+            throw new FileNotFoundException("lazy");
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> source.getValue("my.prop"));
+    }
+
+    @Test
+    void properties() throws IOException {
+        Path file = tempDir.resolve("lazy.properties");
+        Files.writeString(file, "my.prop=1234\n%dev.my.prop=5678\n");
+
+        ConfigSource source = PropertiesConfigSource.lazy(file.toUri().toURL(), 100);
+        LazyConfigSource lazySource = assertInstanceOf(LazyConfigSource.class, source);
+        assertEquals("PropertiesConfigSource[source=" + file.toUri().toURL() + "]", source.getName());
+        assertEquals(Set.of("my.prop", "%dev.my.prop"), source.getPropertyNames());
+        assertNull(source.getValue("other.prop"));
+        assertFalse(lazySource.isLoaded());
+
+        ConfigValue configValue = lazySource.getConfigValue("my.prop");
+        assertEquals("1234", configValue.getValue());
+        assertEquals(1, configValue.getLineNumber());
+        assertTrue(lazySource.isLoaded());
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(PropertiesConfigSource.lazy(file.toUri().toURL(), 100))
+                .withProfile("dev")
+                .build();
+        assertEquals("5678", config.getRawValue("my.prop"));
+    }
+
+    @Test
+    void propertiesReadOnce() throws IOException {
+        Path file = tempDir.resolve("once.properties");
+        Files.writeString(file, "my.prop=1234\n");
+
+        LazyConfigSource source = (LazyConfigSource) PropertiesConfigSource.lazy(file.toUri().toURL(), 100);
+        Files.delete(file);
+
+        // the properties are loaded from the content read when the source was created
+        assertEquals("1234", source.getValue("my.prop"));
+        assertTrue(source.isLoaded());
+    }
+
+    @Test
+    void propertiesOrdinal() throws IOException {
+        Path file = tempDir.resolve("ordinal.properties");
+        Files.writeString(file, "my.prop=1234\nconfig_ordinal=500\n");
+
+        ConfigSource source = PropertiesConfigSource.lazy(file.toUri().toURL(), 100);
+        assertInstanceOf(PropertiesConfigSource.class, source);
+        assertEquals(500, source.getOrdinal());
+    }
+}
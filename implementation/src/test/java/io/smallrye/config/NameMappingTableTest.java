@@ -0,0 +1,48 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class NameMappingTableTest {
+    @Test
+    void table() {
+        NameMappingTable table = new NameMappingTable(
+                Map.of("old.name", "new.name", "old.prefix.exact", "exact"),
+                Map.of("old.prefix", "new.prefix", "old.prefix.nested", "nested", "old", "other"));
+
+        assertEquals("new.name", table.apply("old.name"));
+        assertEquals("exact", table.apply("old.prefix.exact"));
+        assertEquals("new.prefix", table.apply("old.prefix"));
+        assertEquals("new.prefix.value", table.apply("old.prefix.value"));
+        assertEquals("new.prefix.\"quoted.value\"", table.apply("old.prefix.\"quoted.value\""));
+        assertEquals("nested.value", table.apply("old.prefix.nested.value"));
+        assertEquals("other.value", table.apply("old.value"));
+        assertEquals("old-prefix.value", table.apply("old-prefix.value"));
+        assertEquals("oldprefix", table.apply("oldprefix"));
+        assertEquals("unmapped", table.apply("unmapped"));
+
+        assertTrue(table.isMapped("old.name"));
+        assertTrue(table.isMapped("old.prefix"));
+        assertTrue(table.isMapped("old.prefix.value"));
+        assertFalse(table.isMapped("oldprefix"));
+        assertFalse(table.isMapped("unmapped"));
+    }
+
+    @Test
+    void union() {
+        NameMappingTable union = NameMappingTable.union(
+                new NameMappingTable(Map.of("one", "1")),
+                new NameMappingTable(Map.of(), Map.of("two", "2")));
+
+        assertTrue(union.isMapped("one"));
+        assertTrue(union.isMapped("two.value"));
+        assertFalse(union.isMapped("one.value"));
+        assertFalse(union.isEmpty());
+        assertTrue(new NameMappingTable(Map.of()).isEmpty());
+    }
+}
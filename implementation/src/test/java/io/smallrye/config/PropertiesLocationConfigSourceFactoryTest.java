@@ -2,6 +2,9 @@ package io.smallrye.config;
 
 import static io.smallrye.config.KeyValuesConfigSource.config;
 import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_LOCATIONS;
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_LOCATIONS_HTTP_CACHE_DIR;
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_LOCATIONS_HTTP_REFRESH_INTERVAL;
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_LOCATIONS_HTTP_TIMEOUT;
 import static java.util.logging.Level.ALL;
 import static java.util.stream.StreamSupport.stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -13,14 +16,25 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.net.InetSocketAddress;
+import java.net.URI;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
@@ -395,6 +409,218 @@ class PropertiesLocationConfigSourceFactoryTest {
         assertEquals("prod", config.getConfigValue("my.prop").getValue());
     }
 
+    @Test
+    void httpCache(@TempDir Path tempDir) throws Exception {
+        AtomicInteger notModified = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/config.properties", exchange -> {
+            if ("\"1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] bytes = "my.prop=1234".getBytes();
+            exchange.getResponseHeaders().add("ETag", "\"1\"");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+
+        String location = "http://localhost:" + server.getAddress().getPort() + "/config.properties";
+        Path cacheDir = tempDir.resolve("cache");
+        try {
+            assertEquals("1234", buildHttpConfig(location, cacheDir).getRawValue("my.prop"));
+            assertEquals(0, notModified.get());
+            assertEquals("1234", buildHttpConfig(location, cacheDir).getRawValue("my.prop"));
+            assertEquals(1, notModified.get());
+        } finally {
+            server.stop(0);
+        }
+
+        // offline
+        assertEquals("1234", buildHttpConfig(location, cacheDir).getRawValue("my.prop"));
+        assertThrows(IllegalArgumentException.class, () -> buildConfig(location));
+    }
+
+    @Test
+    void httpRefresh() throws Exception {
+        AtomicReference<String> content = new AtomicReference<>("my.prop=1234");
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/config.properties", exchange -> {
+            byte[] bytes = content.get().getBytes();
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            SmallRyeConfig config = new SmallRyeConfigBuilder()
+                    .addDiscoveredSources()
+                    .addDefaultInterceptors()
+                    .withDefaultValue(SMALLRYE_CONFIG_LOCATIONS,
+                            "http://localhost:" + server.getAddress().getPort() + "/config.properties")
+                    .withDefaultValue(SMALLRYE_CONFIG_LOCATIONS_HTTP_REFRESH_INTERVAL, "PT0.05S")
+                    .build();
+            assertEquals("1234", config.getRawValue("my.prop"));
+            assertEquals(1, config.getConfigValue("my.prop").getLineNumber());
+            int ordinal = config.getConfigValue("my.prop").getConfigSourceOrdinal();
+
+            content.set("config_ordinal=1000\nmy.prop=5678");
+            long timeout = System.currentTimeMillis() + 10_000;
+            while (!"5678".equals(config.getRawValue("my.prop")) && System.currentTimeMillis() < timeout) {
+                Thread.sleep(10);
+            }
+            assertEquals("5678", config.getRawValue("my.prop"));
+            assertEquals(2, config.getConfigValue("my.prop").getLineNumber());
+            assertEquals(ordinal, config.getConfigValue("my.prop").getConfigSourceOrdinal());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void httpInvalidTimeout() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new SmallRyeConfigBuilder()
+                .addDiscoveredSources()
+                .withDefaultValue(SMALLRYE_CONFIG_LOCATIONS, "http://localhost/config.properties")
+                .withDefaultValue(SMALLRYE_CONFIG_LOCATIONS_HTTP_TIMEOUT, "30s")
+                .build());
+        assertTrue(exception.getMessage().startsWith("SRCFG00039"));
+        assertTrue(exception.getMessage().contains(SMALLRYE_CONFIG_LOCATIONS_HTTP_TIMEOUT));
+    }
+
+    @Test
+    void httpResourceOverride() {
+        List<URI> requested = new ArrayList<>();
+        AbstractLocationConfigSourceLoader loader = new AbstractLocationConfigSourceLoader() {
+            @Override
+            protected String[] getFileExtensions() {
+                return new String[] { "properties" };
+            }
+
+            @Override
+            protected ConfigSource loadConfigSource(final URL url, final int ordinal) throws IOException {
+                return new PropertiesConfigSource(url, ordinal);
+            }
+
+            @Override
+            protected List<ConfigSource> tryHttpResource(final URI uri, final int ordinal) {
+                requested.add(uri);
+                return List.of(new PropertiesConfigSource(Map.of("my.prop", "1234"), uri.toString(), ordinal));
+            }
+        };
+
+        List<ConfigSource> sources = loader.loadConfigSources("http://localhost/config.properties", 100);
+        assertEquals(List.of(URI.create("http://localhost/config.properties")), requested);
+        assertEquals("1234", sources.get(0).getValue("my.prop"));
+    }
+
+    @Test
+    void classPathResourcesLookup(@TempDir Path tempDir) throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("my.prop", "1234");
+        try (FileOutputStream out = new FileOutputStream(tempDir.resolve("indexed.properties").toFile())) {
+            properties.store(out, null);
+        }
+
+        Map<String, Integer> lookups = new ConcurrentHashMap<>();
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ClassLoader classLoader = new URLClassLoader(new URL[] { tempDir.toUri().toURL() }, contextClassLoader) {
+            @Override
+            public Enumeration<URL> getResources(final String name) throws IOException {
+                lookups.merge(name, 1, Integer::sum);
+                return super.getResources(name);
+            }
+        };
+
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            for (int i = 0; i < 2; i++) {
+                SmallRyeConfig config = new SmallRyeConfigBuilder()
+                        .addDiscoveredSources()
+                        .addDefaultInterceptors()
+                        .withProfile("dev")
+                        .withDefaultValue(SMALLRYE_CONFIG_LOCATIONS, "indexed.properties")
+                        .build();
+                assertEquals("1234", config.getRawValue("my.prop"));
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+
+        // the class path has directories, so a resource may be added or removed later
+        assertEquals(2, lookups.get("indexed.properties"));
+        assertEquals(2, lookups.get("indexed-dev.properties"));
+
+        Files.writeString(tempDir.resolve("indexed-dev.properties"), "my.prop=5678");
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            SmallRyeConfig config = new SmallRyeConfigBuilder()
+                    .addDiscoveredSources()
+                    .addDefaultInterceptors()
+                    .withProfile("dev")
+                    .withDefaultValue(SMALLRYE_CONFIG_LOCATIONS, "indexed.properties")
+                    .build();
+            assertEquals("5678", config.getRawValue("my.prop"));
+
+            Files.delete(tempDir.resolve("indexed-dev.properties"));
+            config = new SmallRyeConfigBuilder()
+                    .addDiscoveredSources()
+                    .addDefaultInterceptors()
+                    .withProfile("dev")
+                    .withDefaultValue(SMALLRYE_CONFIG_LOCATIONS, "indexed.properties")
+                    .build();
+            assertEquals("1234", config.getRawValue("my.prop"));
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    void classPathResourcesJar(@TempDir Path tempDir) throws Exception {
+        Path jar = tempDir.resolve("resources.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("indexed.properties"));
+            out.write("my.prop=1234".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+
+        Map<String, Integer> lookups = new ConcurrentHashMap<>();
+        ClassLoader classLoader = new URLClassLoader(new URL[] { jar.toUri().toURL() },
+                ClassLoader.getPlatformClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(final String name) throws IOException {
+                lookups.merge(name, 1, Integer::sum);
+                return super.getResources(name);
+            }
+        };
+
+        ClassPathResources resources = ClassPathResources.of(classLoader);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(1, resources.getResources("indexed.properties").size());
+            assertTrue(resources.getResources("indexed-dev.properties").isEmpty());
+        }
+        // only jars in the class path, so misses are recorded
+        assertEquals(1, lookups.get("indexed.properties"));
+        assertEquals(1, lookups.get("indexed-dev.properties"));
+
+        SmallRyeConfigBuilder.clearDiscoveredServices(classLoader);
+        assertTrue(ClassPathResources.of(classLoader).getResources("indexed-dev.properties").isEmpty());
+        assertEquals(2, lookups.get("indexed-dev.properties"));
+    }
+
+    private static SmallRyeConfig buildHttpConfig(String location, Path cacheDir) {
+        return new SmallRyeConfigBuilder()
+                .addDiscoveredSources()
+                .addDefaultInterceptors()
+                .withDefaultValue(SMALLRYE_CONFIG_LOCATIONS, location)
+                .withDefaultValue(SMALLRYE_CONFIG_LOCATIONS_HTTP_CACHE_DIR, cacheDir.toString())
+                .build();
+    }
+
     private static SmallRyeConfig buildConfig(String... locations) {
         return new SmallRyeConfigBuilder()
                 .addDiscoveredSources()
@@ -58,6 +58,26 @@ class PropertyNamesMatcherTest {
         assertNull(matcher.get("bar.baz"));
     }
 
+    @Test
+    void addMatcher() {
+        PropertyNamesMatcher<String> source = new PropertyNamesMatcher<>();
+        source.add("plain", "plain");
+        source.add("map.*.value", "value");
+        source.add("map.\"quoted\".*", "quoted");
+        source.add("greedy.**", "greedy");
+
+        PropertyNamesMatcher<String> matcher = new PropertyNamesMatcher<>();
+        matcher.add("map.*.value", "existing");
+        matcher.add(source);
+
+        assertEquals("plain", matcher.get("plain"));
+        assertEquals("existing", matcher.get("map.key.value"));
+        assertEquals("quoted", matcher.get("map.\"quoted\".value"));
+        assertEquals("quoted", matcher.get("map.\"quoted\".key"));
+        assertEquals("greedy", matcher.get("greedy.one.two"));
+        assertNull(matcher.get("map.key"));
+    }
+
     @Test
     void doubleStarWithSpecificMatch() {
         PropertyNamesMatcher<String> matcher = new PropertyNamesMatcher<>();
@@ -0,0 +1,210 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.ConfigMappings.ConfigClass;
+
+class ReloadableConfigTest {
+    @Test
+    void reload() {
+        AtomicReference<String> value = new AtomicReference<>("value");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources((ConfigSourceFactory) context -> List
+                        .of(new PropertiesConfigSource(Map.of("reload.value", value.get()), "reload", 100)))
+                .withMapping(Reload.class)
+                .withReloadable(true)
+                .build();
+
+        Reload mapping = config.getConfigMapping(Reload.class);
+        assertEquals(0, config.getGeneration());
+        assertEquals("value", config.getRawValue("reload.value"));
+        assertEquals("value", mapping.value());
+
+        value.set("reloaded");
+        config.reload().join();
+
+        assertEquals(1, config.getGeneration());
+        assertEquals("reloaded", config.getRawValue("reload.value"));
+        assertEquals("reloaded", config.getConfigMapping(Reload.class).value());
+        assertNotSame(mapping, config.getConfigMapping(Reload.class));
+        // previous generation is untouched
+        assertEquals("value", mapping.value());
+    }
+
+    @Test
+    void reloadFailureKeepsGeneration() {
+        AtomicReference<String> value = new AtomicReference<>("1");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources((ConfigSourceFactory) context -> List
+                        .of(new PropertiesConfigSource(Map.of("reload.value", value.get()), "reload", 100)))
+                .withMapping(ReloadInt.class)
+                .withReloadable(true)
+                .build();
+
+        value.set("not-a-number");
+        CompletionException exception = assertThrows(CompletionException.class, () -> config.reload().join());
+        assertInstanceOf(ConfigValidationException.class, exception.getCause());
+
+        assertEquals(0, config.getGeneration());
+        assertEquals("1", config.getRawValue("reload.value"));
+        assertEquals(1, config.getConfigMapping(ReloadInt.class).value());
+    }
+
+    @Test
+    void reloadRegisteredMappings() {
+        AtomicReference<String> value = new AtomicReference<>("value");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources((ConfigSourceFactory) context -> List
+                        .of(new PropertiesConfigSource(Map.of("reload.value", value.get()), "reload", 100)))
+                .withReloadable(true)
+                .build();
+
+        ConfigMappings.registerConfigClasses(config, Set.of(ConfigClass.configClass(Reload.class)), true);
+        assertEquals("value", config.getConfigMapping(Reload.class).value());
+
+        value.set("reloaded");
+        config.reload().join();
+
+        assertEquals("reloaded", config.getConfigMapping(Reload.class).value());
+    }
+
+    @Test
+    void notReloadable() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder().build();
+
+        assertThrows(IllegalStateException.class, config::reload);
+        assertThrows(IllegalStateException.class, () -> config.onChange("reload", change -> {
+        }));
+    }
+
+    @Test
+    void onChange() {
+        AtomicReference<Map<String, String>> properties = new AtomicReference<>(
+                Map.of("server.host", "localhost", "server.port", "8080", "server.ports[0]", "80", "other", "value"));
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources((ConfigSourceFactory) context -> List
+                        .of(new PropertiesConfigSource(properties.get(), "reload", 100)))
+                .withReloadable(true)
+                .withChangeExecutor(Runnable::run)
+                .build();
+
+        List<ConfigChange> server = new ArrayList<>();
+        List<ConfigChange> port = new ArrayList<>();
+        List<ConfigChange> ports = new ArrayList<>();
+        config.onChange("server", server::add);
+        ConfigChange.Subscription subscription = config.onChange("server.port", port::add);
+        config.onChange("server.ports", ports::add);
+
+        properties.set(Map.of("server.host", "localhost", "server.port", "8443", "server.ports[0]", "443",
+                "server.name", "name", "other", "changed"));
+        config.reload().join();
+
+        assertEquals(List.of("server.name", "server.port", "server.ports[0]"),
+                server.stream().map(ConfigChange::name).toList());
+        assertTrue(server.get(0).isAdded());
+        assertEquals(1, port.size());
+        assertEquals("8080", port.get(0).oldValue().getValue());
+        assertEquals("8443", port.get(0).newValue().getValue());
+        assertEquals(1, ports.size());
+        assertEquals("server.ports[0]", ports.get(0).name());
+
+        subscription.close();
+        properties.set(Map.of("server.host", "localhost", "server.ports[0]", "443", "other", "changed"));
+        config.reload().join();
+
+        assertEquals(1, port.size());
+        assertEquals(List.of("server.name", "server.port", "server.ports[0]", "server.name", "server.port"),
+                server.stream().map(ConfigChange::name).toList());
+        assertTrue(server.get(4).isRemoved());
+    }
+
+    @Test
+    void onChangeName() {
+        AtomicReference<Map<String, String>> properties = new AtomicReference<>(
+                Map.of("server.host", "localhost", "server.port", "8080"));
+        AtomicInteger names = new AtomicInteger();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources((ConfigSourceFactory) context -> List
+                        .of(new PropertiesConfigSource(properties.get(), "reload", 100) {
+                            @Override
+                            public Set<String> getPropertyNames() {
+                                names.incrementAndGet();
+                                return super.getPropertyNames();
+                            }
+                        }))
+                .withReloadable(true)
+                .withChangeExecutor(Runnable::run)
+                .build();
+
+        List<ConfigChange> server = new ArrayList<>();
+        List<ConfigChange> port = new ArrayList<>();
+        config.onChange("server", false, server::add);
+        config.onChange("server.port", false, port::add);
+
+        properties.set(Map.of("server.host", "remote", "server.port", "8443"));
+        int before = names.get();
+        config.reload().join();
+        int exact = names.get() - before;
+
+        assertTrue(server.isEmpty());
+        assertEquals(List.of("server.port"), port.stream().map(ConfigChange::name).toList());
+
+        // a listener of the names under a name requires the names of both generations
+        config.onChange("server", server::add);
+        properties.set(Map.of("server.host", "localhost", "server.port", "8443"));
+        before = names.get();
+        config.reload().join();
+
+        assertTrue(names.get() - before > exact);
+        assertEquals(List.of("server.host"), server.stream().map(ConfigChange::name).toList());
+        assertEquals(1, port.size());
+    }
+
+    @Test
+    void onChangeLookupFailure() {
+        AtomicReference<Map<String, String>> properties = new AtomicReference<>(
+                Map.of("server.host", "localhost", "server.port", "8080"));
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources((ConfigSourceFactory) context -> List
+                        .of(new PropertiesConfigSource(properties.get(), "reload", 100)))
+                .withReloadable(true)
+                .withChangeExecutor(Runnable::run)
+                .build();
+
+        List<ConfigChange> server = new ArrayList<>();
+        config.onChange("server", server::add);
+
+        properties.set(Map.of("server.host", "remote", "server.port", "${server.port}"));
+        config.reload().join();
+
+        assertEquals(1, config.getGeneration());
+        assertEquals(List.of("server.host"), server.stream().map(ConfigChange::name).toList());
+        assertEquals("remote", server.get(0).newValue().getValue());
+    }
+
+    @ConfigMapping(prefix = "reload")
+    interface Reload {
+        String value();
+    }
+
+    @ConfigMapping(prefix = "reload")
+    interface ReloadInt {
+        int value();
+    }
+}
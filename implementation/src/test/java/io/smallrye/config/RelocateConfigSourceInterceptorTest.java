@@ -4,8 +4,10 @@ import static io.smallrye.config.KeyValuesConfigSource.config;
 import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_PROFILE;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static java.util.stream.StreamSupport.stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -456,6 +458,90 @@ class RelocateConfigSourceInterceptorTest {
         assertEquals("one", config.getConfigValue("old.\"one\"").getValue());
     }
 
+    @Test
+    void fusedMappings() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("c", "c", "y", "y", "same", "same", "fallback.same", "fallback"))
+                .withInterceptorFactories(
+                        mapping(new RelocateConfigSourceInterceptor(Map.of("a", "b"), Map.of()), 3),
+                        mapping(new RelocateConfigSourceInterceptor(Map.of("b", "c", "z", "c"), Map.of()), 2),
+                        mapping(new FallbackConfigSourceInterceptor(Map.of("x", "y", "same", "fallback.same"), Map.of()), 1),
+                        mapping(new RelocateConfigSourceInterceptor(Map.of(), Map.of()), 0))
+                .build();
+
+        // a -> b -> c
+        assertEquals("c", config.getRawValue("a"));
+        assertEquals("c", config.getConfigValue("a").getName());
+        assertEquals("c", config.getRawValue("b"));
+        assertEquals("c", config.getRawValue("z"));
+        assertEquals("y", config.getRawValue("x"));
+        assertEquals("x", config.getConfigValue("x").getName());
+        assertEquals("same", config.getRawValue("same"));
+        assertEquals("c", config.getRawValue("c"));
+        assertNull(config.getRawValue("d"));
+
+        Set<String> names = stream(config.getPropertyNames().spliterator(), false).collect(toSet());
+        assertTrue(names.containsAll(Set.of("c", "y", "same", "fallback.same")));
+    }
+
+    @Test
+    void mappingsView() {
+        Map<String, String> relocations = new HashMap<>();
+        Map<String, String> fallbacks = new HashMap<>();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("new", "relocated", "old.fallback", "fallback"))
+                .withInterceptors(
+                        new RelocateConfigSourceInterceptor(relocations),
+                        new FallbackConfigSourceInterceptor(fallbacks))
+                .build();
+
+        assertNull(config.getRawValue("old"));
+        assertNull(config.getRawValue("new.fallback"));
+
+        // the interceptors read the maps, so the mappings added after the build are used
+        relocations.put("old", "new");
+        fallbacks.put("new.fallback", "old.fallback");
+        assertEquals("relocated", config.getRawValue("old"));
+        assertEquals("fallback", config.getRawValue("new.fallback"));
+    }
+
+    @Test
+    void prefixMappings() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config(
+                        "new.prefix.one", "1", "old.prefix.two", "2", "old.prefix.one", "old", "fallback.three", "3"))
+                .withInterceptors(
+                        new RelocateConfigSourceInterceptor(Map.of("old.exact", "new.prefix.one"),
+                                Map.of("old.prefix", "new.prefix")),
+                        new FallbackConfigSourceInterceptor(Map.of(), Map.of("main", "fallback")))
+                .build();
+
+        assertEquals("1", config.getRawValue("old.prefix.one"));
+        assertEquals("1", config.getRawValue("old.exact"));
+        assertEquals("2", config.getRawValue("old.prefix.two"));
+        assertEquals("3", config.getRawValue("main.three"));
+        assertEquals("main.three", config.getConfigValue("main.three").getName());
+        assertNull(config.getRawValue("old.prefix.three"));
+
+        Set<String> names = stream(config.getPropertyNames().spliterator(), false).collect(toSet());
+        assertTrue(names.contains("new.prefix.two"));
+    }
+
+    private static ConfigSourceInterceptorFactory mapping(final ConfigSourceInterceptor interceptor, final int priority) {
+        return new ConfigSourceInterceptorFactory() {
+            @Override
+            public ConfigSourceInterceptor getInterceptor(final ConfigSourceInterceptorContext context) {
+                return interceptor;
+            }
+
+            @Override
+            public OptionalInt getPriority() {
+                return OptionalInt.of(Priorities.APPLICATION + priority);
+            }
+        };
+    }
+
     private static SmallRyeConfig buildConfig(String... keyValues) {
         return builder(Collections.emptySet(), keyValues).build();
     }
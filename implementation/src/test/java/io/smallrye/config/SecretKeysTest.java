@@ -90,6 +90,24 @@ class SecretKeysTest {
                 "Not allowed to access secret key mapping.secret");
     }
 
+    @Test
+    void classified() {
+        PropertyNamesMatcher<?> secrets = new PropertyNamesMatcher<>();
+        secrets.add("secret");
+        secrets.add("secrets.*.value");
+        SecretKeysConfigSourceInterceptor interceptor = new SecretKeysConfigSourceInterceptor(secrets);
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(interceptor.isSecret("secret"));
+            assertTrue(interceptor.isSecret("%prod.secret"));
+            assertTrue(interceptor.isSecret("secrets.one.value"));
+            assertFalse(interceptor.isSecret("secrets.one"));
+            assertFalse(interceptor.isSecret("not.secret"));
+        }
+
+        assertFalse(new SecretKeysConfigSourceInterceptor(new PropertyNamesMatcher<>()).isSecret("secret"));
+    }
+
     private static Config buildConfig(String... keyValues) {
         return new SmallRyeConfigBuilder()
                 .addDefaultInterceptors()
@@ -0,0 +1,135 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ServiceProvidersTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void discoveredServicesCached() {
+        Map<String, Integer> lookups = new ConcurrentHashMap<>();
+        ClassLoader classLoader = new URLClassLoader(new URL[0], Thread.currentThread().getContextClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(final String name) throws IOException {
+                lookups.merge(name, 1, Integer::sum);
+                return super.getResources(name);
+            }
+        };
+        String interceptors = "META-INF/services/" + ConfigSourceInterceptor.class.getName();
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder().forClassLoader(classLoader).addDiscoveredInterceptors().build();
+        assertEquals("loader", config.getRawValue("my.prop.loader"));
+        config = new SmallRyeConfigBuilder().forClassLoader(classLoader).addDiscoveredInterceptors().build();
+        assertEquals("loader", config.getRawValue("my.prop.loader"));
+        assertEquals(1, lookups.get(interceptors));
+
+        SmallRyeConfigBuilder.clearDiscoveredServices(classLoader);
+        config = new SmallRyeConfigBuilder().forClassLoader(classLoader).addDiscoveredInterceptors().build();
+        assertEquals("loader", config.getRawValue("my.prop.loader"));
+        assertEquals(2, lookups.get(interceptors));
+    }
+
+    @Test
+    void childProvidersCached() throws Exception {
+        Map<String, Integer> lookups = new ConcurrentHashMap<>();
+        ClassLoader classLoader = childClassLoader(lookups);
+        String interceptors = "META-INF/services/" + ConfigSourceInterceptor.class.getName();
+
+        List<ConfigSourceInterceptor> first = ServiceProviders.load(ConfigSourceInterceptor.class, classLoader);
+        List<ConfigSourceInterceptor> second = ServiceProviders.load(ConfigSourceInterceptor.class, classLoader);
+        assertTrue(first.stream().anyMatch(interceptor -> interceptor.getClass().getClassLoader() == classLoader));
+        assertEquals(first.size(), second.size());
+        assertEquals(1, lookups.get(interceptors));
+    }
+
+    @Test
+    void childProvidersCollected() throws Exception {
+        ClassLoader classLoader = childClassLoader(new ConcurrentHashMap<>());
+        assertFalse(ServiceProviders.load(ConfigSourceInterceptor.class, classLoader).isEmpty());
+
+        // the cached providers must not keep the ClassLoader reachable
+        WeakReference<ClassLoader> reference = new WeakReference<>(classLoader);
+        classLoader = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
+    private ClassLoader childClassLoader(final Map<String, Integer> lookups) throws IOException {
+        Path services = tempDir.resolve("META-INF/services/" + ConfigSourceInterceptor.class.getName());
+        Files.createDirectories(services.getParent());
+        Files.writeString(services, ChildInterceptor.class.getName());
+
+        return new URLClassLoader(new URL[] { tempDir.toUri().toURL() }, Thread.currentThread().getContextClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(final String name) throws IOException {
+                lookups.merge(name, 1, Integer::sum);
+                return super.getResources(name);
+            }
+
+            @Override
+            protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+                if (!ChildInterceptor.class.getName().equals(name)) {
+                    return super.loadClass(name, resolve);
+                }
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> loaded = findLoadedClass(name);
+                    if (loaded != null) {
+                        return loaded;
+                    }
+                    // define the provider in this ClassLoader, like a provider of a deployment
+                    try (InputStream bytes = ServiceProvidersTest.class.getClassLoader()
+                            .getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        byte[] bytecode = bytes.readAllBytes();
+                        return defineClass(name, bytecode, 0, bytecode.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+            }
+        };
+    }
+
+    public static class ChildInterceptor implements ConfigSourceInterceptor {
+        @Override
+        public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+            return context.proceed(name);
+        }
+    }
+
+    @Test
+    void newInstances() {
+        List<ConfigSourceInterceptor> first = ServiceProviders.load(ConfigSourceInterceptor.class,
+                Thread.currentThread().getContextClassLoader());
+        List<ConfigSourceInterceptor> second = ServiceProviders.load(ConfigSourceInterceptor.class,
+                Thread.currentThread().getContextClassLoader());
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getClass(), second.get(i).getClass());
+            assertNotSame(first.get(i), second.get(i));
+        }
+    }
+}
@@ -2,8 +2,15 @@ package io.smallrye.config;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
 import org.junit.jupiter.api.Test;
@@ -50,4 +57,40 @@ class SmallRyeConfigProviderResolverTest {
         assertEquals(config, io.smallrye.config.Config.getOrCreate(classLoader));
         instance.releaseConfig(config);
     }
+
+    @Test
+    void releaseByClassLoader() {
+        ClassLoader classLoader = new ClassLoader() {
+        };
+        SmallRyeConfigProviderResolver instance = (SmallRyeConfigProviderResolver) SmallRyeConfigProviderResolver.instance();
+        SmallRyeConfig config = new SmallRyeConfigBuilder().build();
+        instance.registerConfig(config, classLoader);
+        assertThrows(IllegalStateException.class, () -> instance.registerConfig(config, classLoader));
+        instance.releaseConfig(classLoader);
+        assertThrows(IllegalArgumentException.class, () -> io.smallrye.config.Config.get(classLoader));
+        instance.registerConfig(config, classLoader);
+        assertEquals(config, io.smallrye.config.Config.get(classLoader));
+        instance.releaseConfig(config);
+    }
+
+    @Test
+    void getConfigConcurrently() throws Exception {
+        ClassLoader classLoader = new ClassLoader() {
+        };
+        ConfigProviderResolver instance = SmallRyeConfigProviderResolver.instance();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Config>> configs = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                configs.add(executor.submit(() -> instance.getConfig(classLoader)));
+            }
+            Config config = configs.get(0).get();
+            for (Future<Config> future : configs) {
+                assertSame(config, future.get());
+            }
+            instance.releaseConfig(config);
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
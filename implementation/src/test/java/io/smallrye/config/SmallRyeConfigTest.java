@@ -844,6 +844,115 @@ class SmallRyeConfigTest {
         assertTrue(propertyNames.contains("two"));
     }
 
+    @Test
+    void latestPropertyNamesIncremental() {
+        TrackingConfigSource tracking = new TrackingConfigSource();
+        tracking.put("tracked", "1");
+        tracking.put("list[0]", "a");
+        Map<String, String> map = new HashMap<>();
+        map.put("shared", "1");
+        map.put("list[1].name", "b");
+        MapBackedConfigSource mapSource = new MapBackedConfigSource("map", map) {
+        };
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prod")
+                .withReloadable(true)
+                .withSources(tracking, mapSource)
+                .build();
+        assertLatestPropertyNames(config, tracking, mapSource);
+
+        tracking.put("shared", "2");
+        tracking.put("%prod.profiled", "1");
+        tracking.put("list[1]", "b");
+        tracking.put("list[2].name", "c");
+        map.put("list[3]", "d");
+        assertLatestPropertyNames(config, tracking, mapSource);
+        assertEquals(List.of("list[0]", "list[1]", "list[2].name", "list[3]"), config.getIndexedProperties("list"));
+
+        tracking.remove("shared");
+        tracking.remove("list[1]");
+        tracking.remove("list[0]");
+        map.remove("list[3]");
+        assertLatestPropertyNames(config, tracking, mapSource);
+        assertTrue(stream(config.getPropertyNames().spliterator(), false).anyMatch("shared"::equals));
+        assertEquals(List.of("list[1].name", "list[2].name"), config.getIndexedProperties("list"));
+
+        map.remove("shared");
+        tracking.remove("%prod.profiled");
+        assertLatestPropertyNames(config, tracking, mapSource);
+        assertFalse(stream(config.getPropertyNames().spliterator(), false).anyMatch("shared"::equals));
+        assertFalse(stream(config.getPropertyNames().spliterator(), false).anyMatch("profiled"::equals));
+    }
+
+    private static void assertLatestPropertyNames(final SmallRyeConfig config, final ConfigSource... sources) {
+        // a new config always resolves all the names
+        SmallRyeConfig expected = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prod")
+                .withSources(sources)
+                .build();
+
+        assertEquals(stream(expected.getPropertyNames().spliterator(), false).collect(toSet()),
+                stream(config.getLatestPropertyNames().spliterator(), false).collect(toSet()));
+        assertEquals(expected.getIndexedProperties("list"), config.getIndexedProperties("list"));
+    }
+
+    static class TrackingConfigSource extends AbstractConfigSource implements ChangeTrackingConfigSource {
+        private final Map<String, String> properties = new HashMap<>();
+        private final List<ChangeTrackingConfigSource.NamesDelta> deltas = new ArrayList<>();
+
+        TrackingConfigSource() {
+            super("tracking", 100);
+        }
+
+        void put(final String name, final String value) {
+            if (properties.put(name, value) == null) {
+                deltas.add(new NamesDelta(deltas.size() + 1, Set.of(name), Set.of()));
+            }
+        }
+
+        void remove(final String name) {
+            if (properties.remove(name) != null) {
+                deltas.add(new NamesDelta(deltas.size() + 1, Set.of(), Set.of(name)));
+            }
+        }
+
+        @Override
+        public long getNamesVersion() {
+            return deltas.size();
+        }
+
+        @Override
+        public NamesDelta getNamesDelta(final long version) {
+            Set<String> added = new HashSet<>();
+            Set<String> removed = new HashSet<>();
+            for (NamesDelta delta : deltas.subList((int) version, deltas.size())) {
+                for (String name : delta.added()) {
+                    if (!removed.remove(name)) {
+                        added.add(name);
+                    }
+                }
+                for (String name : delta.removed()) {
+                    if (!added.remove(name)) {
+                        removed.add(name);
+                    }
+                }
+            }
+            return new NamesDelta(deltas.size(), added, removed);
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return new HashSet<>(properties.keySet());
+        }
+
+        @Override
+        public String getValue(final String propertyName) {
+            return properties.get(propertyName);
+        }
+    }
+
     @Test
     void propertyNamesNoCache() {
         Map<String, String> configSource = new HashMap<>();
@@ -2,11 +2,16 @@ package io.smallrye.config;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.config.ChangeTrackingConfigSource.NamesDelta;
+
 class SysPropConfigSourceTest {
     @BeforeEach
     void setUp() {
@@ -26,4 +31,125 @@ class SysPropConfigSourceTest {
         assertTrue(configSource instanceof SysPropConfigSource);
         assertEquals(configSource.getOrdinal(), 1000);
     }
+
+    @Test
+    void snapshot() {
+        SnapshotSysPropConfigSource configSource = new SnapshotSysPropConfigSource();
+        long version = configSource.getNamesVersion();
+        Set<String> names = configSource.getPropertyNames();
+        assertTrue(names.contains("config_ordinal"));
+        assertSame(names, configSource.getPropertyNames());
+        assertSame(configSource.getProperties(), configSource.getProperties());
+
+        try {
+            System.setProperty("snapshot.added", "value");
+            assertTrue(configSource.getPropertyNames().contains("snapshot.added"));
+            assertEquals("value", configSource.getProperties().get("snapshot.added"));
+            assertEquals(version + 1, configSource.getNamesVersion());
+            NamesDelta delta = configSource.getNamesDelta(version);
+            assertEquals(Set.of("snapshot.added"), delta.added());
+            assertTrue(delta.removed().isEmpty());
+
+            // same number of properties, values are read directly, properties require a refresh
+            System.setProperty("snapshot.added", "changed");
+            assertEquals("changed", configSource.getValue("snapshot.added"));
+            assertEquals("value", configSource.getProperties().get("snapshot.added"));
+            configSource.refresh();
+            assertEquals("changed", configSource.getProperties().get("snapshot.added"));
+            assertEquals(version + 1, configSource.getNamesVersion());
+        } finally {
+            System.clearProperty("snapshot.added");
+        }
+
+        assertFalse(configSource.getPropertyNames().contains("snapshot.added"));
+        assertEquals(version + 2, configSource.getNamesVersion());
+        assertEquals(Set.of("snapshot.added"), configSource.getNamesDelta(version + 1).removed());
+        assertNull(configSource.getNamesDelta(version));
+    }
+
+    @Test
+    void snapshotLatestPropertyNames() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder().addSystemSources().withSnapshotSystemProperties(true).build();
+        assertTrue(config.getConfigSources().iterator().next() instanceof SnapshotSysPropConfigSource);
+        assertFalse(latest(config).contains("snapshot.latest"));
+
+        try {
+            System.setProperty("snapshot.latest", "value");
+            assertTrue(latest(config).contains("snapshot.latest"));
+        } finally {
+            System.clearProperty("snapshot.latest");
+        }
+        assertFalse(latest(config).contains("snapshot.latest"));
+    }
+
+    @Test
+    void liveByDefault() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder().addSystemSources().build();
+        ConfigSource configSource = config.getConfigSources().iterator().next();
+        assertFalse(configSource instanceof SnapshotSysPropConfigSource);
+
+        try {
+            System.setProperty("live.value", "value");
+            assertEquals("value", configSource.getProperties().get("live.value"));
+            System.setProperty("live.value", "changed");
+            assertEquals("changed", configSource.getProperties().get("live.value"));
+        } finally {
+            System.clearProperty("live.value");
+        }
+    }
+
+    @Test
+    void snapshotValueChanged() {
+        SnapshotSysPropConfigSource configSource = new SnapshotSysPropConfigSource();
+        try {
+            System.setProperty("snapshot.value", "value");
+            assertEquals("value", configSource.getProperties().get("snapshot.value"));
+            long version = configSource.getNamesVersion();
+
+            System.setProperty("snapshot.value", "changed");
+            assertEquals("changed", configSource.getValue("snapshot.value"));
+            assertEquals("value", configSource.getProperties().get("snapshot.value"));
+            configSource.refresh();
+            assertEquals("changed", configSource.getProperties().get("snapshot.value"));
+            // the names did not change
+            assertEquals(version, configSource.getNamesVersion());
+        } finally {
+            System.clearProperty("snapshot.value");
+        }
+    }
+
+    @Test
+    void snapshotRemovedAndAdded() {
+        SnapshotSysPropConfigSource configSource = new SnapshotSysPropConfigSource();
+        try {
+            System.setProperty("snapshot.removed", "value");
+            assertTrue(configSource.getPropertyNames().contains("snapshot.removed"));
+            long version = configSource.getNamesVersion();
+
+            System.clearProperty("snapshot.removed");
+            System.setProperty("snapshot.added", "value");
+            // same number of properties
+            assertTrue(configSource.getPropertyNames().contains("snapshot.removed"));
+            assertEquals(version, configSource.getNamesVersion());
+            assertNull(configSource.getValue("snapshot.removed"));
+            assertEquals("value", configSource.getValue("snapshot.added"));
+
+            configSource.refresh();
+            assertFalse(configSource.getPropertyNames().contains("snapshot.removed"));
+            assertTrue(configSource.getPropertyNames().contains("snapshot.added"));
+            assertEquals(version + 1, configSource.getNamesVersion());
+            NamesDelta delta = configSource.getNamesDelta(version);
+            assertEquals(Set.of("snapshot.added"), delta.added());
+            assertEquals(Set.of("snapshot.removed"), delta.removed());
+        } finally {
+            System.clearProperty("snapshot.removed");
+            System.clearProperty("snapshot.added");
+        }
+    }
+
+    private static Set<String> latest(final SmallRyeConfig config) {
+        Set<String> names = new HashSet<>();
+        config.getLatestPropertyNames().forEach(names::add);
+        return names;
+    }
 }
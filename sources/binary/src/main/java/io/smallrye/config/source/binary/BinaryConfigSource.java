@@ -0,0 +1,275 @@
+package io.smallrye.config.source.binary;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectStreamException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import io.smallrye.common.classloader.ClassPathUtils;
+import io.smallrye.config.common.AbstractConfigSource;
+import io.smallrye.config.common.MapBackedConfigSource;
+
+/**
+ * A {@link org.eclipse.microprofile.config.spi.ConfigSource} of properties stored in a binary file, written with
+ * {@link BinaryConfigSourceWriter}.
+ * <p>
+ * The file is memory-mapped, and lookups are performed directly in the mapped region, with a hash table of the names.
+ * The properties are never copied to a {@link java.util.Map}, so loading the source only requires to map the file and
+ * to check its header, regardless of the number of properties. A file that is not in the file system, like a resource
+ * in a jar, is copied to a direct buffer, outside the heap.
+ * <p>
+ * The binary format is:
+ * <ul>
+ * <li>a header, with a magic number, the format version, the number of properties, and the number of slots of the
+ * hash table</li>
+ * <li>the hash table, with the index of a property, plus one, in each used slot, or zero in an empty slot</li>
+ * <li>the properties sorted by name, each with the hash of the name, and the offsets and lengths of the name and the
+ * value in the strings</li>
+ * <li>the strings, with the names and values encoded in UTF-8</li>
+ * </ul>
+ * <p>
+ * The mapped file is not serialized. A serialized {@link BinaryConfigSource} is replaced with a
+ * {@link MapBackedConfigSource} with a copy of the properties, and the same name and ordinal.
+ */
+public class BinaryConfigSource extends AbstractConfigSource {
+    @Serial
+    private static final long serialVersionUID = -2304651457426513895L;
+
+    public static final String NAME = "BinaryConfigSource[source=%s]";
+    public static final int ORDINAL = DEFAULT_ORDINAL;
+
+    static final int MAGIC = 0x53524342;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int SLOT_SIZE = 4;
+    static final int ENTRY_SIZE = 20;
+
+    private final transient Table table;
+
+    public BinaryConfigSource(Path path) throws IOException {
+        this(path, ORDINAL);
+    }
+
+    public BinaryConfigSource(Path path, int defaultOrdinal) throws IOException {
+        this(String.format(NAME, path.toUri()), map(path), defaultOrdinal);
+    }
+
+    public BinaryConfigSource(URL url, int defaultOrdinal) throws IOException {
+        this(String.format(NAME, url), read(url), defaultOrdinal);
+    }
+
+    public BinaryConfigSource(String name, ByteBuffer buffer, int defaultOrdinal) throws IOException {
+        this(name, new Table(name, buffer), defaultOrdinal);
+    }
+
+    private BinaryConfigSource(String name, Table table, int defaultOrdinal) {
+        super(name, table.ordinal(defaultOrdinal));
+        this.table = table;
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return table.names();
+    }
+
+    @Override
+    public String getValue(final String propertyName) {
+        int entry = table.find(propertyName);
+        return entry >= 0 ? table.value(entry) : null;
+    }
+
+    @Serial
+    private Object writeReplace() throws ObjectStreamException {
+        Map<String, String> properties = new LinkedHashMap<>();
+        for (String name : table.names()) {
+            properties.put(name, getValue(name));
+        }
+        return new Serialized(getName(), properties, getOrdinal());
+    }
+
+    private static ByteBuffer map(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static ByteBuffer read(final URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return map(Paths.get(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+
+        ByteBuffer[] buffer = new ByteBuffer[1];
+        ClassPathUtils.consumeStream(url, new Consumer<>() {
+            @Override
+            public void accept(final InputStream inputStream) {
+                try {
+                    byte[] bytes = inputStream.readAllBytes();
+                    buffer[0] = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+        return buffer[0];
+    }
+
+    static final class Serialized extends MapBackedConfigSource {
+        @Serial
+        private static final long serialVersionUID = 4180964357140216275L;
+
+        Serialized(final String name, final Map<String, String> properties, final int ordinal) {
+            super(name, properties, ordinal);
+        }
+    }
+
+    static int slot(final int hash, final int slots) {
+        return (hash ^ (hash >>> 16)) & (slots - 1);
+    }
+
+    /**
+     * Reads the properties from the binary format. All reads use absolute positions, so the buffer is safe to read
+     * concurrently.
+     */
+    private static final class Table {
+        private final ByteBuffer buffer;
+        private final int count;
+        private final int slots;
+        private final int entries;
+
+        Table(final String name, final ByteBuffer buffer) throws IOException {
+            this.buffer = buffer;
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException(name + " is not a binary configuration file");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException(name + " has an unsupported binary configuration format " + buffer.getInt(4));
+            }
+            this.count = buffer.getInt(8);
+            this.slots = buffer.getInt(12);
+            if (count < 0 || slots <= count || Integer.bitCount(slots) != 1
+                    || HEADER_SIZE + (long) slots * SLOT_SIZE + (long) count * ENTRY_SIZE > buffer.limit()) {
+                throw new IOException(name + " is a corrupted binary configuration file");
+            }
+            this.entries = HEADER_SIZE + slots * SLOT_SIZE;
+        }
+
+        int ordinal(final int defaultOrdinal) {
+            int entry = find(CONFIG_ORDINAL);
+            return entry >= 0 ? Integer.parseInt(value(entry)) : defaultOrdinal;
+        }
+
+        /**
+         * Finds the entry of a name in the hash table.
+         *
+         * @param name the property name
+         * @return the position of the entry of the name, or {@code -1} if the name is not found
+         */
+        int find(final String name) {
+            int hash = name.hashCode();
+            for (int slot = slot(hash, slots);; slot = (slot + 1) & (slots - 1)) {
+                int index = buffer.getInt(HEADER_SIZE + slot * SLOT_SIZE);
+                if (index == 0) {
+                    return -1;
+                }
+                int entry = entries + (index - 1) * ENTRY_SIZE;
+                if (buffer.getInt(entry) == hash && matches(name, buffer.getInt(entry + 4), buffer.getInt(entry + 8))) {
+                    return entry;
+                }
+            }
+        }
+
+        String name(final int entry) {
+            return string(buffer.getInt(entry + 4), buffer.getInt(entry + 8));
+        }
+
+        String value(final int entry) {
+            return string(buffer.getInt(entry + 12), buffer.getInt(entry + 16));
+        }
+
+        Set<String> names() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<String> iterator() {
+                    return new Iterator<>() {
+                        int index = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < count;
+                        }
+
+                        @Override
+                        public String next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            return name(entries + index++ * ENTRY_SIZE);
+                        }
+                    };
+                }
+
+                @Override
+                public boolean contains(final Object o) {
+                    return o instanceof String && find((String) o) >= 0;
+                }
+
+                @Override
+                public int size() {
+                    return count;
+                }
+            };
+        }
+
+        private String string(final int offset, final int length) {
+            byte[] bytes = new byte[length];
+            buffer.get(offset, bytes);
+            return new String(bytes, UTF_8);
+        }
+
+        /**
+         * Compares a name with the UTF-8 bytes of a name in the buffer, without decoding the bytes. A name with
+         * non-ASCII characters is encoded and compared with the bytes.
+         */
+        private boolean matches(final String name, final int offset, final int length) {
+            int n = name.length();
+            if (n > length) {
+                return false;
+            }
+            for (int i = 0; i < n; i++) {
+                char c = name.charAt(i);
+                if (c >= 0x80) {
+                    byte[] bytes = new byte[length];
+                    buffer.get(offset, bytes);
+                    return Arrays.equals(name.getBytes(UTF_8), bytes);
+                }
+                if (buffer.get(offset + i) != c) {
+                    return false;
+                }
+            }
+            return n == length;
+        }
+    }
+}
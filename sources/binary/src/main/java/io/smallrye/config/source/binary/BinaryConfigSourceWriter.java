@@ -0,0 +1,115 @@
+package io.smallrye.config.source.binary;
+
+import static io.smallrye.config.source.binary.BinaryConfigSource.ENTRY_SIZE;
+import static io.smallrye.config.source.binary.BinaryConfigSource.HEADER_SIZE;
+import static io.smallrye.config.source.binary.BinaryConfigSource.MAGIC;
+import static io.smallrye.config.source.binary.BinaryConfigSource.SLOT_SIZE;
+import static io.smallrye.config.source.binary.BinaryConfigSource.VERSION;
+import static io.smallrye.config.source.binary.BinaryConfigSource.slot;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes properties in the binary format of a {@link BinaryConfigSource}.
+ */
+public final class BinaryConfigSourceWriter {
+    private BinaryConfigSourceWriter() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Writes properties to a file, in the binary format of a {@link BinaryConfigSource}. The properties are written to
+     * a temporary file, which then replaces the file, so a {@link BinaryConfigSource} that mapped the previous file
+     * keeps reading the previous properties.
+     *
+     * @param properties the properties
+     * @param path the file
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if the properties exceed the maximum size of the binary format, of 2 GB
+     */
+    public static void write(final Map<String, String> properties, final Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                write(properties, out);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes properties to an {@link OutputStream}, in the binary format of a {@link BinaryConfigSource}. The
+     * {@link OutputStream} is not closed.
+     *
+     * @param properties the properties
+     * @param out the {@link OutputStream}
+     * @throws IOException if the properties cannot be written
+     * @throws IllegalArgumentException if the properties exceed the maximum size of the binary format, of 2 GB
+     */
+    public static void write(final Map<String, String> properties, final OutputStream out) throws IOException {
+        TreeMap<String, String> sorted = new TreeMap<>(properties);
+        int count = sorted.size();
+        if (count > 1 << 28) {
+            throw new IllegalArgumentException("The properties exceed the maximum size of the binary format");
+        }
+        int slots = Integer.highestOneBit(Math.max(count, 1) * 2 - 1) << 1;
+
+        int[] hashes = new int[count];
+        byte[][] names = new byte[count][];
+        byte[][] values = new byte[count][];
+        int[] table = new int[slots];
+        long size = HEADER_SIZE + (long) slots * SLOT_SIZE + (long) count * ENTRY_SIZE;
+        int index = 0;
+        for (Map.Entry<String, String> property : sorted.entrySet()) {
+            hashes[index] = property.getKey().hashCode();
+            names[index] = property.getKey().getBytes(UTF_8);
+            values[index] = property.getValue().getBytes(UTF_8);
+            size += names[index].length + values[index].length;
+
+            int slot = slot(hashes[index], slots);
+            while (table[slot] != 0) {
+                slot = (slot + 1) & (slots - 1);
+            }
+            table[slot] = ++index;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The properties exceed the maximum size of the binary format");
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(count);
+        data.writeInt(slots);
+        for (int slot : table) {
+            data.writeInt(slot);
+        }
+        int offset = HEADER_SIZE + slots * SLOT_SIZE + count * ENTRY_SIZE;
+        for (int i = 0; i < count; i++) {
+            data.writeInt(hashes[i]);
+            data.writeInt(offset);
+            data.writeInt(names[i].length);
+            offset += names[i].length;
+            data.writeInt(offset);
+            data.writeInt(values[i].length);
+            offset += values[i].length;
+        }
+        for (int i = 0; i < count; i++) {
+            data.write(names[i]);
+            data.write(values[i]);
+        }
+        data.flush();
+    }
+}
@@ -0,0 +1,26 @@
+package io.smallrye.config.source.binary;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.config.AbstractLocationConfigSourceFactory;
+
+/**
+ * Loads the {@link BinaryConfigSource} files set in the {@code smallrye.config.locations} configuration, with the
+ * {@code binconf} extension.
+ */
+public class BinaryLocationConfigSourceFactory extends AbstractLocationConfigSourceFactory {
+    @Override
+    public String[] getFileExtensions() {
+        return new String[] {
+                "binconf"
+        };
+    }
+
+    @Override
+    protected ConfigSource loadConfigSource(final URL url, final int ordinal) throws IOException {
+        return new BinaryConfigSource(url, ordinal);
+    }
+}
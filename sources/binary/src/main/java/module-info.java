@@ -0,0 +1,10 @@
+module io.smallrye.config.source.binary {
+    requires transitive io.smallrye.config;
+    requires io.smallrye.common.classloader;
+    requires io.smallrye.config.common;
+
+    exports io.smallrye.config.source.binary;
+
+    provides io.smallrye.config.ConfigSourceFactory with
+        io.smallrye.config.source.binary.BinaryLocationConfigSourceFactory;
+}
@@ -0,0 +1,145 @@
+package io.smallrye.config.source.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+class BinaryConfigSourceTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void binary() throws IOException {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            properties.put("tenant." + i + ".name", "tenant-" + i);
+        }
+        properties.put("greeting.message", "hello");
+        properties.put("greeting.émoji", "👋");
+        properties.put("empty", "");
+
+        Path file = tempDir.resolve("config.binconf");
+        BinaryConfigSourceWriter.write(properties, file);
+        BinaryConfigSource source = new BinaryConfigSource(file);
+
+        assertEquals(BinaryConfigSource.ORDINAL, source.getOrdinal());
+        assertEquals("hello", source.getValue("greeting.message"));
+        assertEquals("👋", source.getValue("greeting.émoji"));
+        assertEquals("", source.getValue("empty"));
+        assertEquals("tenant-999", source.getValue("tenant.999.name"));
+        assertNull(source.getValue("greeting"));
+        assertNull(source.getValue("greeting.messages"));
+        assertNull(source.getValue("greeting.émojis"));
+
+        assertEquals(properties.size(), source.getPropertyNames().size());
+        assertTrue(source.getPropertyNames().contains("greeting.message"));
+        assertFalse(source.getPropertyNames().contains("greeting"));
+        List<String> names = new ArrayList<>(source.getPropertyNames());
+        assertEquals(names.stream().sorted().toList(), names);
+        assertEquals(properties, source.getProperties());
+    }
+
+    @Test
+    void ordinal() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryConfigSourceWriter.write(Map.of("config_ordinal", "500", "my.prop", "1234"), out);
+
+        BinaryConfigSource source = new BinaryConfigSource("binary", ByteBuffer.wrap(out.toByteArray()), 100);
+        assertEquals(500, source.getOrdinal());
+        assertEquals("1234", source.getValue("my.prop"));
+    }
+
+    @Test
+    void empty() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryConfigSourceWriter.write(Map.of(), out);
+
+        BinaryConfigSource source = new BinaryConfigSource("binary", ByteBuffer.wrap(out.toByteArray()), 100);
+        assertTrue(source.getPropertyNames().isEmpty());
+        assertNull(source.getValue("my.prop"));
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(IOException.class,
+                () -> new BinaryConfigSource("binary", ByteBuffer.wrap("my.prop=1234".getBytes()), 100));
+    }
+
+    @Test
+    void locations() throws IOException {
+        Path file = tempDir.resolve("application.binconf");
+        BinaryConfigSourceWriter.write(Map.of("my.prop", "1234"), file);
+        BinaryConfigSourceWriter.write(Map.of("my.prop", "5678"), tempDir.resolve("application-prod.binconf"));
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .addDiscoveredSources()
+                .withDefaultValue("smallrye.config.locations", file.toUri().toString())
+                .build();
+        assertEquals("1234", config.getRawValue("my.prop"));
+
+        config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .addDiscoveredSources()
+                .withProfile("prod")
+                .withDefaultValue("smallrye.config.locations", file.toUri().toString())
+                .build();
+        assertEquals("5678", config.getRawValue("my.prop"));
+    }
+
+    @Test
+    void rewrite() throws IOException {
+        Path file = tempDir.resolve("config.binconf");
+        BinaryConfigSourceWriter.write(Map.of("my.prop", "1234"), file);
+        BinaryConfigSource source = new BinaryConfigSource(file);
+
+        BinaryConfigSourceWriter.write(Map.of("my.prop", "5678"), file);
+        assertEquals("1234", source.getValue("my.prop"));
+        assertEquals("5678", new BinaryConfigSource(file).getValue("my.prop"));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void serialization() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryConfigSourceWriter.write(Map.of("config_ordinal", "500", "my.prop", "1234"), out);
+        BinaryConfigSource source = new BinaryConfigSource("binary", ByteBuffer.wrap(out.toByteArray()), 100);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(source);
+        }
+        ConfigSource deserialized;
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (ConfigSource) input.readObject();
+        }
+        assertEquals("binary", deserialized.getName());
+        assertEquals(500, deserialized.getOrdinal());
+        assertEquals("1234", deserialized.getValue("my.prop"));
+        assertEquals(source.getProperties(), deserialized.getProperties());
+    }
+}
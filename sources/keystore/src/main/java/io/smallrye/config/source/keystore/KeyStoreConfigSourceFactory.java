@@ -14,6 +14,7 @@ import java.security.cert.CertificateException;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -28,8 +29,6 @@ import io.smallrye.config.ConfigSourceContext;
 import io.smallrye.config.ConfigSourceFactory;
 import io.smallrye.config.ConfigValue;
 import io.smallrye.config.PropertiesConfigSource;
-import io.smallrye.config.SmallRyeConfig;
-import io.smallrye.config.SmallRyeConfigBuilder;
 import io.smallrye.config._private.ConfigMessages;
 import io.smallrye.config.source.keystore.KeyStoreConfig.KeyStore.Alias;
 
@@ -39,7 +38,7 @@ public class KeyStoreConfigSourceFactory implements ConfigSourceFactory {
 
     @Override
     public Iterable<ConfigSource> getConfigSources(final ConfigSourceContext context) {
-        KeyStoreConfig keyStoreConfig = getKeyStoreConfig(context);
+        KeyStoreConfig keyStoreConfig = context.getConfigMapping(KeyStoreConfig.class);
 
         // A keystore may contain the encryption key for a handler, so we load keystore that do not have handlers
         Map<String, KeyStoreConfig.KeyStore> prioritized = new HashMap<>();
@@ -60,19 +59,41 @@ public class KeyStoreConfigSourceFactory implements ConfigSourceFactory {
             }
         }
 
+        // The late keystores may get the password from the prioritized keystores
         ConfigSourceContext keyStoreContext = new ConfigSourceContext() {
-            final SmallRyeConfig contextConfig = new SmallRyeConfigBuilder()
-                    .withSources(new ConfigSourceContext.ConfigSourceContextConfigSource(context))
-                    .withSources(keyStoreSources).build();
-
             @Override
             public ConfigValue getValue(final String name) {
-                return contextConfig.getConfigValue(name);
+                ConfigValue value = context.getValue(name);
+                if (value != null && value.getValue() != null) {
+                    return value;
+                }
+                for (ConfigSource keyStoreSource : keyStoreSources) {
+                    String keyStoreValue = keyStoreSource.getValue(name);
+                    if (keyStoreValue != null) {
+                        return ConfigValue.builder()
+                                .withName(name)
+                                .withValue(keyStoreValue)
+                                .withConfigSourceName(keyStoreSource.getName())
+                                .withConfigSourceOrdinal(keyStoreSource.getOrdinal())
+                                .build();
+                    }
+                }
+                return value;
             }
 
             @Override
             public Iterator<String> iterateNames() {
-                return contextConfig.getPropertyNames().iterator();
+                Set<String> names = new HashSet<>();
+                context.iterateNames().forEachRemaining(names::add);
+                for (ConfigSource keyStoreSource : keyStoreSources) {
+                    names.addAll(keyStoreSource.getPropertyNames());
+                }
+                return names.iterator();
+            }
+
+            @Override
+            public List<String> getProfiles() {
+                return context.getProfiles();
             }
         };
 
@@ -86,15 +107,6 @@ public class KeyStoreConfigSourceFactory implements ConfigSourceFactory {
         return keyStoreSources;
     }
 
-    private static KeyStoreConfig getKeyStoreConfig(final ConfigSourceContext context) {
-        SmallRyeConfig config = new SmallRyeConfigBuilder()
-                .withSources(new ConfigSourceContext.ConfigSourceContextConfigSource(context))
-                .withMapping(KeyStoreConfig.class)
-                .withMappingIgnore("smallrye.config.source.keystore.*.password")
-                .build();
-        return config.getConfigMapping(KeyStoreConfig.class);
-    }
-
     private static Iterable<ConfigSource> loadKeyStoreSources(final ConfigSourceContext context, final String name,
             final KeyStoreConfig.KeyStore keyStore) {
         return new AbstractLocationConfigSourceFactory() {
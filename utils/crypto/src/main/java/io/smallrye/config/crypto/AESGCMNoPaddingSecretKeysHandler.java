@@ -3,22 +3,44 @@ package io.smallrye.config.crypto;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
+import io.smallrye.config.SecretKeys;
 import io.smallrye.config.SecretKeysHandler;
 
 public class AESGCMNoPaddingSecretKeysHandler implements SecretKeysHandler {
     public static final String ENCRYPTION_KEY = "smallrye.config.secret-handler.aes-gcm-nopadding.encryption-key";
     public static final String DECODE_KEY = "smallrye.config.secret-handler.aes-gcm-nopadding.encryption-key-decode";
+    public static final String CACHE_SIZE = "smallrye.config.secret-handler.aes-gcm-nopadding.cache-size";
 
     private final SecretKeySpec encryptionKey;
+    /** A Cipher lookup in the providers is expensive, so keep a Cipher per thread, and only init it per decode */
+    private final ThreadLocal<Cipher> ciphers = new ThreadLocal<>();
+    private final DecryptedCache cache;
 
     public AESGCMNoPaddingSecretKeysHandler(final byte[] encryptionKey) {
+        this(encryptionKey, 0);
+    }
+
+    /**
+     * Creates a {@code AESGCMNoPaddingSecretKeysHandler}.
+     *
+     * @param encryptionKey the encryption key
+     * @param cacheSize the maximum number of decrypted secrets to keep, or {@code 0} to decrypt the secret on every
+     *        decode. The cache is only used while the {@link SecretKeys} are locked, so the secrets decoded for the
+     *        secret keys are never kept.
+     */
+    public AESGCMNoPaddingSecretKeysHandler(final byte[] encryptionKey, final int cacheSize) {
         try {
             MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
             sha256.update(encryptionKey);
@@ -26,20 +48,31 @@ public class AESGCMNoPaddingSecretKeysHandler implements SecretKeysHandler {
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        this.cache = cacheSize > 0 ? new DecryptedCache(cacheSize) : null;
     }
 
     @Override
     public String decode(final String secret) {
+        DecryptedCache cache = SecretKeys.isLocked() ? this.cache : null;
+        if (cache != null) {
+            String decrypted = cache.get(secret);
+            if (decrypted != null) {
+                return decrypted;
+            }
+        }
+
         try {
-            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-            ByteBuffer byteBuffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(secret.getBytes(UTF_8)));
-            int ivLength = byteBuffer.get();
-            byte[] iv = new byte[ivLength];
-            byteBuffer.get(iv);
-            byte[] encrypted = new byte[byteBuffer.remaining()];
-            byteBuffer.get(encrypted);
-            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(128, iv));
-            return new String(cipher.doFinal(encrypted), UTF_8);
+            byte[] decrypted = decrypt(Base64.getUrlDecoder().decode(secret));
+            if (cache == null) {
+                return new String(decrypted, UTF_8);
+            }
+
+            CharBuffer chars = UTF_8.decode(ByteBuffer.wrap(decrypted));
+            Arrays.fill(decrypted, (byte) 0);
+            char[] value = new char[chars.remaining()];
+            chars.get(value);
+            Arrays.fill(chars.array(), '\0');
+            return cache.put(secret, value);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -49,4 +82,70 @@ public class AESGCMNoPaddingSecretKeysHandler implements SecretKeysHandler {
     public String getName() {
         return "aes-gcm-nopadding";
     }
+
+    /**
+     * Wipes and removes all the decrypted secrets kept by this handler.
+     */
+    public void clearCache() {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    byte[] decrypt(final byte[] decoded) throws GeneralSecurityException {
+        int ivLength = decoded[0];
+        Cipher cipher = cipher();
+        cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(128, decoded, 1, ivLength));
+        return cipher.doFinal(decoded, 1 + ivLength, decoded.length - 1 - ivLength);
+    }
+
+    private Cipher cipher() throws GeneralSecurityException {
+        Cipher cipher = ciphers.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            ciphers.set(cipher);
+        }
+        return cipher;
+    }
+
+    /**
+     * A bounded cache of decrypted secrets by the encrypted value. The decrypted secrets are kept as {@code char[]}, so
+     * they can be wiped when evicted or cleared.
+     */
+    private static final class DecryptedCache {
+        private final LinkedHashMap<String, char[]> decrypted;
+
+        DecryptedCache(final int maxSize) {
+            this.decrypted = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, char[]> eldest) {
+                    if (size() > maxSize) {
+                        Arrays.fill(eldest.getValue(), '\0');
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized String get(final String secret) {
+            char[] value = decrypted.get(secret);
+            return value != null ? new String(value) : null;
+        }
+
+        synchronized String put(final String secret, final char[] value) {
+            char[] previous = decrypted.put(secret, value);
+            if (previous != null && previous != value) {
+                Arrays.fill(previous, '\0');
+            }
+            return new String(value);
+        }
+
+        synchronized void clear() {
+            for (char[] value : decrypted.values()) {
+                Arrays.fill(value, '\0');
+            }
+            decrypted.clear();
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.smallrye.config.crypto;
 
+import static io.smallrye.config.crypto.AESGCMNoPaddingSecretKeysHandler.CACHE_SIZE;
 import static io.smallrye.config.crypto.AESGCMNoPaddingSecretKeysHandler.DECODE_KEY;
 import static io.smallrye.config.crypto.AESGCMNoPaddingSecretKeysHandler.ENCRYPTION_KEY;
 
@@ -34,7 +35,13 @@ public class AESGCMNoPaddingSecretKeysHandlerFactory implements SecretKeysHandle
                 byte[] encryptionKeyBytes = decode ? Base64.getUrlDecoder().decode(encryptionKey.getValue())
                         : encryptionKey.getValue().getBytes(StandardCharsets.UTF_8);
 
-                return new AESGCMNoPaddingSecretKeysHandler(encryptionKeyBytes);
+                int cacheSize = 0;
+                ConfigValue cacheSizeValue = context.getValue(CACHE_SIZE);
+                if (cacheSizeValue != null && cacheSizeValue.getValue() != null) {
+                    cacheSize = Converters.getImplicitConverter(Integer.class).convert(cacheSizeValue.getValue());
+                }
+
+                return new AESGCMNoPaddingSecretKeysHandler(encryptionKeyBytes, cacheSize);
             }
 
             @Override
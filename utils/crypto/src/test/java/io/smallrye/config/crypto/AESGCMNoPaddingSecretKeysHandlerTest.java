@@ -7,6 +7,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -17,6 +20,7 @@ import io.smallrye.config.ConfigSourceFactory;
 import io.smallrye.config.ConfigValue;
 import io.smallrye.config.EnvConfigSource;
 import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SecretKeys;
 import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.config.SmallRyeConfigBuilder;
 
@@ -160,4 +164,71 @@ class AESGCMNoPaddingSecretKeysHandlerTest {
         assertEquals("default", config.getConfigValue("my.expression").getValue());
         assertEquals("default", config.getConfigValue("another.expression").getValue());
     }
+
+    @Test
+    void cache() {
+        CountingHandler handler = new CountingHandler(1);
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSecretKeysHandlers(handler)
+                .withDefaultValues(Map.of(
+                        "my.secret", "${aes-gcm-nopadding::DJNrZ6LfpupFv6QbXyXhvzD8eVDnDa_kTliQBpuzTobDZxlg}",
+                        "my.expression", "${my.secret}"))
+                .build();
+
+        assertEquals("decoded", config.getConfigValue("my.secret").getValue());
+        assertEquals("decoded", config.getConfigValue("my.secret").getValue());
+        assertEquals("decoded", config.getConfigValue("my.expression").getValue());
+        assertEquals(1, handler.decrypts);
+    }
+
+    @Test
+    void clearCache() {
+        CountingHandler handler = new CountingHandler(1);
+        AESGCMNoPaddingSecretKeysHandler plain = new AESGCMNoPaddingSecretKeysHandler(
+                "somearbitrarycrazystringthatdoesnotmatter".getBytes(StandardCharsets.UTF_8), 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("decoded", handler.decode("DJNrZ6LfpupFv6QbXyXhvzD8eVDnDa_kTliQBpuzTobDZxlg"));
+            assertEquals("1234", plain.decode("DPZqAC4GZNAXi6_43A4O2SBmaQssGkq6PS7rz8tzHDt1"));
+        }
+        assertEquals(1, handler.decrypts);
+
+        handler.clearCache();
+        assertEquals("decoded", handler.decode("DJNrZ6LfpupFv6QbXyXhvzD8eVDnDa_kTliQBpuzTobDZxlg"));
+        assertEquals(2, handler.decrypts);
+    }
+
+    @Test
+    void cacheUnlocked() {
+        CountingHandler handler = new CountingHandler(1);
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSecretKeysHandlers(handler)
+                .withSecretKeys("my.secret")
+                .withDefaultValues(Map.of(
+                        "my.secret", "${aes-gcm-nopadding::DJNrZ6LfpupFv6QbXyXhvzD8eVDnDa_kTliQBpuzTobDZxlg}"))
+                .build();
+
+        assertThrows(SecurityException.class, () -> config.getConfigValue("my.secret"));
+        for (int i = 0; i < 2; i++) {
+            assertEquals("decoded", SecretKeys.doUnlocked(() -> config.getConfigValue("my.secret").getValue()));
+        }
+        // the secret keys are decrypted on every lookup, and never kept
+        assertEquals(2, handler.decrypts);
+    }
+
+    static class CountingHandler extends AESGCMNoPaddingSecretKeysHandler {
+        int decrypts;
+
+        CountingHandler(final int cacheSize) {
+            super(Base64.getUrlDecoder().decode("c29tZWFyYml0cmFyeWNyYXp5c3RyaW5ndGhhdGRvZXNub3RtYXR0ZXI"), cacheSize);
+        }
+
+        @Override
+        byte[] decrypt(final byte[] decoded) throws GeneralSecurityException {
+            decrypts++;
+            return super.decrypt(decoded);
+        }
+    }
 }